@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.benchmarks;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * The Eclipse Collections implementations exercised by the benchmarks.
+ */
+public enum CollectionType {
+  FAST_LIST {
+    @Override
+    <T> RichIterable<T> from(Iterable<T> source) {
+      return FastList.newList(source);
+    }
+  },
+  UNIFIED_SET {
+    @Override
+    <T> RichIterable<T> from(Iterable<T> source) {
+      return UnifiedSet.newSet(source);
+    }
+  },
+  HASH_BAG {
+    @Override
+    <T> RichIterable<T> from(Iterable<T> source) {
+      return HashBag.newBag(source);
+    }
+  },
+  IMMUTABLE_LIST {
+    @Override
+    <T> RichIterable<T> from(Iterable<T> source) {
+      return Lists.immutable.withAll(source);
+    }
+  },
+  LAZY_ITERABLE {
+    @Override
+    <T> RichIterable<T> from(Iterable<T> source) {
+      return FastList.newList(source).asLazy();
+    }
+  };
+
+  abstract <T> RichIterable<T> from(Iterable<T> source);
+}
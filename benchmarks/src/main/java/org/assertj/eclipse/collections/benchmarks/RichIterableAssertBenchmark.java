@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.eclipse.collections.api.RichIterableAssert;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the success path of the hot {@code AbstractRichIterableAssert} methods. Every benchmark asserts on
+ * data that satisfies the assertion, so the numbers reflect what a passing test pays per call.
+ * <p>
+ * All assertions go through {@link RichIterableAssert} so that the only variable is the collection implementation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RichIterableAssertBenchmark {
+  private static final int MANY_LOOKUPS = 16;
+
+  @State(Scope.Benchmark)
+  public static class Elements {
+    @Param({"FAST_LIST", "UNIFIED_SET", "HASH_BAG", "IMMUTABLE_LIST", "LAZY_ITERABLE"})
+    public CollectionType type;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    RichIterable<Integer> actual;
+    Integer[] present;
+    Integer[] absent;
+    Integer[] manyPresent;
+    Integer[] manyAbsent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      actual = type.from(Interval.zeroTo(size - 1));
+      present = new Integer[]{0, size / 2, size - 1};
+      absent = new Integer[]{-1, -2, size};
+
+      // More lookups than the linear scan limit, so that the hashed lookup is used for lists and lazy iterables
+      manyPresent = new Integer[MANY_LOOKUPS];
+      manyAbsent = new Integer[MANY_LOOKUPS];
+      for (int i = 0; i < MANY_LOOKUPS; i++) {
+        manyPresent[i] = (int) ((long) i * (size - 1) / (MANY_LOOKUPS - 1));
+        manyAbsent[i] = -1 - i;
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class Nulls {
+    @Param({"FAST_LIST", "UNIFIED_SET", "HASH_BAG", "IMMUTABLE_LIST", "LAZY_ITERABLE"})
+    public CollectionType type;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    // A UnifiedSet collapses all the nulls into a single element, which is still the realistic shape for a set
+    RichIterable<Object> actual;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      actual = type.from(Collections.nCopies(size, null));
+    }
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> allMatch(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).allMatch(value -> value >= 0);
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> allSatisfy(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).allSatisfy(value -> {
+      if (value < 0) {
+        throw new AssertionError("negative value " + value);
+      }
+    });
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> anySatisfy(Elements elements) {
+    // Only the largest value passes, which forces a (near) full scan for every collection type
+    int last = elements.size - 1;
+    return new RichIterableAssert<Integer>(elements.actual).anySatisfy(value -> {
+      if (value != last) {
+        throw new AssertionError("not the last value " + value);
+      }
+    });
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> contains(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).contains(elements.present);
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> containsMany(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).contains(elements.manyPresent);
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> doesNotContain(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).doesNotContain(elements.absent);
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> doesNotContainMany(Elements elements) {
+    return new RichIterableAssert<Integer>(elements.actual).doesNotContain(elements.manyAbsent);
+  }
+
+  @Benchmark
+  public RichIterableAssert<Object> containsOnlyNulls(Nulls nulls) {
+    return new RichIterableAssert<>(nulls.actual).containsOnlyNulls();
+  }
+
+  @Benchmark
+  public RichIterableAssert<Integer> filteredOn(Elements elements) {
+    // filteredOn only creates a view, assert on the result so that the filter is actually evaluated
+    return new RichIterableAssert<Integer>(elements.actual).filteredOn(value -> value % 2 == 0).hasSizeGreaterThan(0);
+  }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.eclipse.collections.error.ShouldContainWithOccurrences.shouldContainWithOccurrences;
+import static org.assertj.eclipse.collections.error.ShouldHaveBottomOccurrences.shouldHaveBottomOccurrences;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSize.shouldHaveDistinctSize;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeBetween.shouldHaveDistinctSizeBetween;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeGreaterThan.shouldHaveDistinctSizeGreaterThan;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeGreaterThanOrEqualTo.shouldHaveDistinctSizeGreaterThanOrEqualTo;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeLessThan.shouldHaveDistinctSizeLessThan;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeLessThanOrEqualTo.shouldHaveDistinctSizeLessThanOrEqualTo;
+import static org.assertj.eclipse.collections.error.ShouldHaveMaxOccurrencesAtMost.shouldHaveMaxOccurrencesAtMost;
+import static org.assertj.eclipse.collections.error.ShouldHaveOccurrenceSkewAtMost.shouldHaveOccurrenceSkewAtMost;
+import static org.assertj.eclipse.collections.error.ShouldHaveOccurrences.shouldHaveOccurrences;
+import static org.assertj.eclipse.collections.error.ShouldHaveOccurrencesBetween.shouldHaveOccurrencesBetween;
+import static org.assertj.eclipse.collections.error.ShouldHaveSameOccurrencesAs.shouldHaveSameOccurrencesAs;
+
+import org.assertj.core.api.AbstractAssert;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.map.primitive.ObjectIntMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+
+/**
+ * Base class for the assertions on the {@link Bag} implementations.
+ */
+//@format:off
+public abstract class AbstractBagAssert<SELF extends AbstractBagAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>,
+  ACTUAL extends Bag<? extends ELEMENT>,
+  ELEMENT,
+  ELEMENT_ASSERT extends AbstractAssert<? extends ELEMENT_ASSERT, ELEMENT>>
+  extends AbstractRichIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT> {
+//@format:on
+
+  protected AbstractBagAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  public SELF hasDistinctSize(int expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualDistinctSize = actual.sizeDistinct();
+      if (actualDistinctSize == expected) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSize(actual, actualDistinctSize, expected));
+    });
+  }
+
+  public SELF hasDistinctSizeBetween(int lowerBoundary, int higherBoundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      if (!(higherBoundary >= lowerBoundary)) {
+        throw new IllegalArgumentException("The higher boundary <%s> must be greater than the lower boundary <%s>.".formatted(
+          higherBoundary,
+          lowerBoundary));
+      }
+
+      int actualSize = actual.sizeDistinct();
+      if (actualSize >= lowerBoundary && actualSize <= higherBoundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSizeBetween(actual, actualSize, lowerBoundary, higherBoundary));
+    });
+  }
+
+  public SELF hasDistinctSizeGreaterThan(int boundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualDistinctSize = actual.sizeDistinct();
+      if (actualDistinctSize > boundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSizeGreaterThan(actual, actualDistinctSize, boundary));
+    });
+  }
+
+  public SELF hasDistinctSizeGreaterThanOrEqualTo(int boundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualDistinctSize = actual.sizeDistinct();
+      if (actualDistinctSize >= boundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSizeGreaterThanOrEqualTo(actual, actualDistinctSize, boundary));
+    });
+  }
+
+  public SELF hasDistinctSizeLessThan(int boundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualDistinctSize = actual.sizeDistinct();
+      if (actualDistinctSize < boundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSizeLessThan(actual, actualDistinctSize, boundary));
+    });
+  }
+
+  public SELF hasDistinctSizeLessThanOrEqualTo(int boundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualDistinctSize = actual.sizeDistinct();
+      if (actualDistinctSize <= boundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveDistinctSizeLessThanOrEqualTo(actual, actualDistinctSize, boundary));
+    });
+  }
+
+  /**
+   * Verifies that the actual Bag contains the given element exactly the given number of times. Runs in constant time
+   * for hashed bags since only the occurrences of the given element are looked up.
+   *
+   * @param element  the element to look for.
+   * @param expected the expected number of occurrences.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual Bag is {@code null} or does not contain the element {@code expected} times.
+   */
+  public SELF hasOccurrencesOf(ELEMENT element, int expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      int actualOccurrences = actual.occurrencesOf(element);
+      if (actualOccurrences == expected) {
+        return;
+      }
+
+      throw assertionError(shouldHaveOccurrences(actual, element, expected, actualOccurrences));
+    });
+  }
+
+  /**
+   * Verifies that the number of occurrences of the given element in the actual Bag is between the given boundaries
+   * (inclusive).
+   *
+   * @param element        the element to look for.
+   * @param lowerBoundary  the lower boundary compared to which the occurrences should be greater than or equal.
+   * @param higherBoundary the higher boundary compared to which the occurrences should be less than or equal.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the higher boundary is less than the lower boundary.
+   * @throws AssertionError           if the actual Bag is {@code null} or the occurrences of the element are not
+   *                                  between the boundaries.
+   */
+  public SELF hasOccurrencesBetween(ELEMENT element, int lowerBoundary, int higherBoundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      if (!(higherBoundary >= lowerBoundary)) {
+        throw new IllegalArgumentException("The higher boundary <%s> must be greater than the lower boundary <%s>.".formatted(
+          higherBoundary,
+          lowerBoundary));
+      }
+
+      int actualOccurrences = actual.occurrencesOf(element);
+      if (actualOccurrences >= lowerBoundary && actualOccurrences <= higherBoundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveOccurrencesBetween(actual, element, lowerBoundary, higherBoundary, actualOccurrences));
+    });
+  }
+
+  /**
+   * Verifies that the actual Bag contains each key of the given map exactly as many times as its value. Only the keys
+   * of the given map are looked up, other elements of the actual Bag are ignored. An expected value of {@code 0}
+   * verifies that the element is absent.
+   *
+   * @param expected the expected occurrences of each element.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given map is {@code null}.
+   * @throws AssertionError       if the actual Bag is {@code null} or the occurrences of one of the given elements
+   *                              differ.
+   */
+  public SELF containsWithOccurrences(ObjectIntMap<? extends ELEMENT> expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(expected, "The expected occurrences should not be null");
+
+      MutableObjectIntMap<Object> expectedMismatches = ObjectIntMaps.mutable.empty();
+      MutableObjectIntMap<Object> actualMismatches = ObjectIntMaps.mutable.empty();
+      expected.forEachKeyValue((element, occurrences) -> {
+        int actualOccurrences = actual.occurrencesOf(element);
+        if (actualOccurrences != occurrences) {
+          expectedMismatches.put(element, occurrences);
+          actualMismatches.put(element, actualOccurrences);
+        }
+      });
+      if (expectedMismatches.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContainWithOccurrences(actual, expectedMismatches, actualMismatches));
+    });
+  }
+
+  /**
+   * Verifies that the actual Bag contains the same elements as the given bag, with the same number of occurrences. The
+   * comparison is done per distinct element, so its cost depends on the number of distinct elements rather than on the
+   * total number of occurrences.
+   *
+   * @param other the bag to compare to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given bag is {@code null}.
+   * @throws AssertionError       if the actual Bag is {@code null} or the occurrences of one of the elements differ.
+   */
+  public SELF hasSameOccurrencesAs(Bag<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The bag to compare to should not be null");
+
+      MutableObjectIntMap<Object> expectedMismatches = ObjectIntMaps.mutable.empty();
+      MutableObjectIntMap<Object> actualMismatches = ObjectIntMaps.mutable.empty();
+      other.forEachWithOccurrences((element, occurrences) -> {
+        int actualOccurrences = actual.occurrencesOf(element);
+        if (actualOccurrences != occurrences) {
+          expectedMismatches.put(element, occurrences);
+          actualMismatches.put(element, actualOccurrences);
+        }
+      });
+      // When every element of the other bag matches and the sizes are equal, actual cannot hold anything else
+      if (expectedMismatches.isEmpty() && actual.size() == other.size()) {
+        return;
+      }
+
+      actual.forEachWithOccurrences((element, occurrences) -> {
+        if (other.occurrencesOf(element) == 0) {
+          expectedMismatches.put(element, 0);
+          actualMismatches.put(element, occurrences);
+        }
+      });
+      throw assertionError(shouldHaveSameOccurrencesAs(actual, other, expectedMismatches, actualMismatches));
+    });
+  }
+
+  /**
+   * Navigates to the {@code count} most frequent elements of the actual Bag, paired with their occurrences and sorted
+   * from the most to the least frequent. Elements tied with the last one are included, so the list can be longer than
+   * {@code count}.
+   *
+   * @param count the number of most frequent elements to navigate to.
+   * @return a new {@link ListIterableAssert} on the most frequent elements of the actual Bag.
+   * @throws IllegalArgumentException if {@code count} is negative.
+   * @throws AssertionError           if the actual Bag is {@code null}.
+   */
+  public ListIterableAssert<ObjectIntPair<ELEMENT>> topOccurrences(int count) {
+    return executeAssertionNavigation(() -> internalTopOccurrences(count), () -> new ListIterableAssert<ObjectIntPair<ELEMENT>>(null));
+  }
+
+  /**
+   * Verifies that no element of the actual Bag occurs more than the given number of times. The occurrences are checked
+   * in a single pass over the distinct elements.
+   *
+   * @param boundary the maximum number of occurrences allowed for any element.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual Bag is {@code null} or one of its elements occurs more than {@code boundary}
+   *                        times.
+   */
+  public SELF hasMaxOccurrencesAtMost(int boundary) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      OccurrenceExtremes<ELEMENT> extremes = occurrenceExtremes();
+      if (extremes.maxOccurrences <= boundary) {
+        return;
+      }
+
+      throw assertionError(shouldHaveMaxOccurrencesAtMost(actual, boundary, extremes.maxElement, extremes.maxOccurrences));
+    });
+  }
+
+  /**
+   * Verifies that the {@code count} least frequent elements of the actual Bag are the given elements, in any order.
+   * Elements tied with the last one are part of the least frequent elements and have to be given as well.
+   *
+   * @param count    the number of least frequent elements to check.
+   * @param elements the expected least frequent elements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException     if the given elements are {@code null}.
+   * @throws IllegalArgumentException if {@code count} is negative.
+   * @throws AssertionError           if the actual Bag is {@code null} or its least frequent elements are not the
+   *                                  given ones.
+   */
+  @SafeVarargs
+  public final SELF hasBottomOccurrences(int count, ELEMENT... elements) {
+    return hasBottomOccurrencesForProxy(count, elements);
+  }
+
+  protected SELF hasBottomOccurrencesForProxy(int count, ELEMENT[] elements) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(elements, "The array of values to look for should not be null");
+      checkArgument(count >= 0, "The number of elements must not be negative but was <%s>", count);
+
+      ListIterable<? extends ObjectIntPair<?>> bottom = actual.bottomOccurrences(count);
+      MutableSet<Object> bottomElements = bottom.collect(ObjectIntPair::getOne, Sets.mutable.empty());
+      if (bottomElements.equals(Sets.mutable.of(elements))) {
+        return;
+      }
+
+      throw assertionError(shouldHaveBottomOccurrences(actual, count, elements, bottom));
+    });
+  }
+
+  /**
+   * Verifies that the ratio between the occurrences of the most frequent and the least frequent elements of the actual
+   * Bag is at most the given ratio. The occurrences are checked in a single pass over the distinct elements and an
+   * empty Bag has no skew.
+   *
+   * @param ratio the maximum ratio allowed, at least {@code 1}.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code ratio} is less than {@code 1} or not a number.
+   * @throws AssertionError           if the actual Bag is {@code null} or its occurrences are more skewed than the
+   *                                  given ratio.
+   */
+  public SELF hasOccurrenceSkewAtMost(double ratio) {
+    return executeAssertion(() -> {
+      isNotNull();
+      checkArgument(ratio >= 1.0, "The skew ratio must be greater than or equal to 1 but was <%s>", ratio);
+
+      OccurrenceExtremes<ELEMENT> extremes = occurrenceExtremes();
+      if (extremes.isEmpty()) {
+        return;
+      }
+      double actualRatio = (double) extremes.maxOccurrences / extremes.minOccurrences;
+      if (actualRatio <= ratio) {
+        return;
+      }
+
+      throw assertionError(shouldHaveOccurrenceSkewAtMost(actual, ratio, actualRatio, extremes.maxElement,
+        extremes.maxOccurrences, extremes.minElement, extremes.minOccurrences));
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private ListIterableAssert<ObjectIntPair<ELEMENT>> internalTopOccurrences(int count) {
+    isNotNull();
+    checkArgument(count >= 0, "The number of elements must not be negative but was <%s>", count);
+    ListIterable<ObjectIntPair<ELEMENT>> top = (ListIterable<ObjectIntPair<ELEMENT>>) (ListIterable<?>) actual.topOccurrences(count);
+    return new ListIterableAssert<>(top).as(navigationDescription("top " + count + " occurrences"));
+  }
+
+  private OccurrenceExtremes<ELEMENT> occurrenceExtremes() {
+    OccurrenceExtremes<ELEMENT> extremes = new OccurrenceExtremes<>();
+    actual.forEachWithOccurrences(extremes);
+    return extremes;
+  }
+
+  /**
+   * Tracks the most and the least frequent elements of a bag while iterating over its distinct elements.
+   */
+  private static final class OccurrenceExtremes<T> implements ObjectIntProcedure<T> {
+    private T maxElement;
+    private int maxOccurrences;
+    private T minElement;
+    private int minOccurrences = Integer.MAX_VALUE;
+
+    @Override
+    public void value(T element, int occurrences) {
+      if (occurrences > maxOccurrences) {
+        maxElement = element;
+        maxOccurrences = occurrences;
+      }
+      if (occurrences < minOccurrences) {
+        minElement = element;
+        minOccurrences = occurrences;
+      }
+    }
+
+    boolean isEmpty() {
+      return maxOccurrences == 0;
+    }
+  }
+}
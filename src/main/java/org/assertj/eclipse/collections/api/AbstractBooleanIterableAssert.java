@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.eclipse.collections.error.ScanTruncated.scanTruncated;
+
+
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.UnsatisfiedRequirement;
+import org.assertj.core.presentation.PredicateDescription;
+import org.eclipse.collections.api.BooleanIterable;
+import org.eclipse.collections.api.block.predicate.primitive.BooleanPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.BooleanProcedure;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.list.primitive.MutableBooleanList;
+
+/**
+ * Base class for the assertions on the {@link BooleanIterable} implementations.
+ */
+public abstract class AbstractBooleanIterableAssert<SELF extends AbstractBooleanIterableAssert<SELF, ACTUAL>, ACTUAL extends BooleanIterable> extends AbstractPrimitiveIterableAssert<SELF, ACTUAL> {
+  protected AbstractBooleanIterableAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  public SELF allMatch(BooleanPredicate predicate) {
+    return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF allMatch(BooleanPredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAllMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAllMatch(BooleanPredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    isNotEmpty();
+
+    MutableBooleanList nonMatches = BooleanLists.mutable.empty();
+    boolean truncated = actual.anySatisfy(element -> {
+      if (isFailureCapReached(nonMatches.size())) {
+        return true; // only stop once there is an element left unchecked
+      }
+      if (!predicate.accept(element)) {
+        nonMatches.add(element);
+      }
+      return false;
+    });
+    if (nonMatches.isEmpty()) {
+      return;
+    }
+
+    ErrorMessageFactory errorMessageFactory = elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches,
+      predicateDescription);
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, nonMatches.size()) : errorMessageFactory);
+  }
+
+  public SELF allSatisfy(BooleanProcedure requirements) {
+    return executeAssertion(() -> {
+      isNotNull();
+      isNotEmpty();
+      requireNonNull(requirements, "The BooleanProcedure expressing the assertions requirements must not be null");
+
+      FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = newFailureCollector();
+      boolean truncated = actual.anySatisfy(element -> {
+        if (unsatisfiedRequirements.isFull()) {
+          return true; // only stop once there is an element left unchecked
+        }
+        UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+        if (unsatisfiedRequirement != null) {
+          unsatisfiedRequirements.add(unsatisfiedRequirement);
+        }
+        return false;
+      });
+      if (unsatisfiedRequirements.isEmpty()) {
+        return;
+      }
+
+      ErrorMessageFactory errorMessageFactory = elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info);
+      throw assertionError(truncated ? scanTruncated(errorMessageFactory, unsatisfiedRequirements.size()) : errorMessageFactory);
+    });
+  }
+
+  private static UnsatisfiedRequirement failsRequirements(BooleanProcedure requirements, boolean element) {
+    try {
+      requirements.value(element);
+    } catch (AssertionError ex) {
+      return new UnsatisfiedRequirement(element, ex);
+    }
+    return null;
+  }
+
+  public SELF anyMatch(BooleanPredicate predicate) {
+    return executeAssertion(() -> assertAnyMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF anyMatch(BooleanPredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAnyMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAnyMatch(BooleanPredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    if (actual.noneSatisfy(predicate)) {
+      throw assertionError(anyElementShouldMatch(actual, predicateDescription));
+    }
+  }
+
+  public SELF anySatisfy(BooleanProcedure requirements) {
+    return executeAssertion(() -> assertAnySatisfy(requirements));
+  }
+
+  private void assertAnySatisfy(BooleanProcedure requirements) {
+    isNotNull();
+    requireNonNull(requirements, "The BooleanProcedure expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(Integer.MAX_VALUE);
+    if (actual.anySatisfy(element -> {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+      if (unsatisfiedRequirement == null) {
+        return true; // element satisfied the requirements
+      }
+      unsatisfiedRequirements.add(unsatisfiedRequirement);
+      return false;
+    })) {
+      return;
+    }
+
+    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements.toList(), info));
+  }
+
+  public SELF contains(boolean... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      BooleanIterable notFound = PrimitiveContains.missing(actual, values);
+
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAll(BooleanIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      BooleanIterable notFound = PrimitiveContains.missing(actual, values);
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAnyOf(boolean... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      if (actual.isEmpty() && values.length == 0) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF containsAnyOf(BooleanIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF doesNotContain(boolean... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      MutableBooleanList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+
+  public SELF doesNotContainAny(BooleanIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      MutableBooleanList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.eclipse.collections.error.ScanTruncated.scanTruncated;
+
+
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.UnsatisfiedRequirement;
+import org.assertj.core.presentation.PredicateDescription;
+import org.eclipse.collections.api.CharIterable;
+import org.eclipse.collections.api.block.predicate.primitive.CharPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.CharProcedure;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.list.primitive.MutableCharList;
+
+/**
+ * Base class for the assertions on the {@link CharIterable} implementations.
+ */
+public abstract class AbstractCharIterableAssert<SELF extends AbstractCharIterableAssert<SELF, ACTUAL>, ACTUAL extends CharIterable> extends AbstractPrimitiveIterableAssert<SELF, ACTUAL> {
+  protected AbstractCharIterableAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  public SELF allMatch(CharPredicate predicate) {
+    return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF allMatch(CharPredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAllMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAllMatch(CharPredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    isNotEmpty();
+
+    MutableCharList nonMatches = CharLists.mutable.empty();
+    boolean truncated = actual.anySatisfy(element -> {
+      if (isFailureCapReached(nonMatches.size())) {
+        return true; // only stop once there is an element left unchecked
+      }
+      if (!predicate.accept(element)) {
+        nonMatches.add(element);
+      }
+      return false;
+    });
+    if (nonMatches.isEmpty()) {
+      return;
+    }
+
+    ErrorMessageFactory errorMessageFactory = elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches,
+      predicateDescription);
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, nonMatches.size()) : errorMessageFactory);
+  }
+
+  public SELF allSatisfy(CharProcedure requirements) {
+    return executeAssertion(() -> {
+      isNotNull();
+      isNotEmpty();
+      requireNonNull(requirements, "The CharProcedure expressing the assertions requirements must not be null");
+
+      FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = newFailureCollector();
+      boolean truncated = actual.anySatisfy(element -> {
+        if (unsatisfiedRequirements.isFull()) {
+          return true; // only stop once there is an element left unchecked
+        }
+        UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+        if (unsatisfiedRequirement != null) {
+          unsatisfiedRequirements.add(unsatisfiedRequirement);
+        }
+        return false;
+      });
+      if (unsatisfiedRequirements.isEmpty()) {
+        return;
+      }
+
+      ErrorMessageFactory errorMessageFactory = elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info);
+      throw assertionError(truncated ? scanTruncated(errorMessageFactory, unsatisfiedRequirements.size()) : errorMessageFactory);
+    });
+  }
+
+  private static UnsatisfiedRequirement failsRequirements(CharProcedure requirements, char element) {
+    try {
+      requirements.value(element);
+    } catch (AssertionError ex) {
+      return new UnsatisfiedRequirement(element, ex);
+    }
+    return null;
+  }
+
+  public SELF anyMatch(CharPredicate predicate) {
+    return executeAssertion(() -> assertAnyMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF anyMatch(CharPredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAnyMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAnyMatch(CharPredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    if (actual.noneSatisfy(predicate)) {
+      throw assertionError(anyElementShouldMatch(actual, predicateDescription));
+    }
+  }
+
+  public SELF anySatisfy(CharProcedure requirements) {
+    return executeAssertion(() -> assertAnySatisfy(requirements));
+  }
+
+  private void assertAnySatisfy(CharProcedure requirements) {
+    isNotNull();
+    requireNonNull(requirements, "The CharProcedure expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(Integer.MAX_VALUE);
+    if (actual.anySatisfy(element -> {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+      if (unsatisfiedRequirement == null) {
+        return true; // element satisfied the requirements
+      }
+      unsatisfiedRequirements.add(unsatisfiedRequirement);
+      return false;
+    })) {
+      return;
+    }
+
+    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements.toList(), info));
+  }
+
+  public SELF contains(char... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      CharIterable notFound = PrimitiveContains.missing(actual, values);
+
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAll(CharIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      CharIterable notFound = PrimitiveContains.missing(actual, values);
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAnyOf(char... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      if (actual.isEmpty() && values.length == 0) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF containsAnyOf(CharIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF doesNotContain(char... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      MutableCharList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+
+  public SELF doesNotContainAny(CharIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      MutableCharList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.eclipse.collections.error.ScanTruncated.scanTruncated;
+import static org.assertj.eclipse.collections.error.ShouldHaveAllElementsInRange.shouldHaveAllElementsInRange;
+import static org.assertj.eclipse.collections.error.ShouldHaveStatistic.shouldHaveAverageCloseTo;
+import static org.assertj.eclipse.collections.error.ShouldHaveStatistic.shouldHaveMax;
+import static org.assertj.eclipse.collections.error.ShouldHaveStatistic.shouldHaveMin;
+import static org.assertj.eclipse.collections.error.ShouldHaveStatistic.shouldHaveSum;
+import static org.assertj.eclipse.collections.error.ShouldHaveStatistic.shouldHaveSumCloseTo;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+import org.assertj.core.data.Offset;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.UnsatisfiedRequirement;
+import org.assertj.core.presentation.PredicateDescription;
+import org.eclipse.collections.api.DoubleIterable;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+
+/**
+ * Base class for the assertions on the {@link DoubleIterable} implementations.
+ */
+public abstract class AbstractDoubleIterableAssert<SELF extends AbstractDoubleIterableAssert<SELF, ACTUAL>, ACTUAL extends DoubleIterable> extends AbstractPrimitiveIterableAssert<SELF, ACTUAL> {
+  // Computed on first use, so that chained summary assertions only scan the elements once
+  private DoubleSummaryStatistics summaryStatistics;
+
+  protected AbstractDoubleIterableAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  public SELF allInRange(double min, double max) {
+    return executeAssertion(() -> {
+      isNotNull();
+      checkArgument(min <= max, "The lower bound of the range should not be greater than the upper bound");
+
+      // The cached statistics answer the common passing case without a scan of the elements
+      DoubleSummaryStatistics statistics = statistics();
+      if (statistics.getCount() == 0 || statistics.getMin() >= min && statistics.getMax() <= max) {
+        return;
+      }
+
+      MutableDoubleList outOfRange = DoubleLists.mutable.empty();
+      boolean truncated = actual.anySatisfy(element -> {
+        if (isFailureCapReached(outOfRange.size())) {
+          return true; // only stop once there is an element left unchecked
+        }
+        // Written so that NaN is always out of range
+        if (!(element >= min && element <= max)) {
+          outOfRange.add(element);
+        }
+        return false;
+      });
+
+      ErrorMessageFactory errorMessageFactory = shouldHaveAllElementsInRange(actual, min, max, outOfRange);
+      throw assertionError(truncated ? scanTruncated(errorMessageFactory, outOfRange.size()) : errorMessageFactory);
+    });
+  }
+
+  public SELF allMatch(DoublePredicate predicate) {
+    return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF allMatch(DoublePredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAllMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAllMatch(DoublePredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    isNotEmpty();
+
+    MutableDoubleList nonMatches = DoubleLists.mutable.empty();
+    boolean truncated = actual.anySatisfy(element -> {
+      if (isFailureCapReached(nonMatches.size())) {
+        return true; // only stop once there is an element left unchecked
+      }
+      if (!predicate.test(element)) {
+        nonMatches.add(element);
+      }
+      return false;
+    });
+    if (nonMatches.isEmpty()) {
+      return;
+    }
+
+    ErrorMessageFactory errorMessageFactory = elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches,
+      predicateDescription);
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, nonMatches.size()) : errorMessageFactory);
+  }
+
+  public SELF allSatisfy(DoubleConsumer requirements) {
+    return executeAssertion(() -> {
+      isNotNull();
+      isNotEmpty();
+      requireNonNull(requirements, "The DoubleConsumer expressing the assertions requirements must not be null");
+
+      FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = newFailureCollector();
+      boolean truncated = actual.anySatisfy(element -> {
+        if (unsatisfiedRequirements.isFull()) {
+          return true; // only stop once there is an element left unchecked
+        }
+        UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+        if (unsatisfiedRequirement != null) {
+          unsatisfiedRequirements.add(unsatisfiedRequirement);
+        }
+        return false;
+      });
+      if (unsatisfiedRequirements.isEmpty()) {
+        return;
+      }
+
+      ErrorMessageFactory errorMessageFactory = elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info);
+      throw assertionError(truncated ? scanTruncated(errorMessageFactory, unsatisfiedRequirements.size()) : errorMessageFactory);
+    });
+  }
+
+  private static UnsatisfiedRequirement failsRequirements(DoubleConsumer requirements, double element) {
+    try {
+      requirements.accept(element);
+    } catch (AssertionError ex) {
+      return new UnsatisfiedRequirement(element, ex);
+    }
+    return null;
+  }
+
+  public SELF anyMatch(DoublePredicate predicate) {
+    return executeAssertion(() -> assertAnyMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  public SELF anyMatch(DoublePredicate predicate, String predicateDescription) {
+    return executeAssertion(() -> assertAnyMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertAnyMatch(DoublePredicate predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    if (actual.noneSatisfy(predicate::test)) {
+      throw assertionError(anyElementShouldMatch(actual, predicateDescription));
+    }
+  }
+
+  public SELF anySatisfy(DoubleConsumer requirements) {
+    return executeAssertion(() -> assertAnySatisfy(requirements));
+  }
+
+  private void assertAnySatisfy(DoubleConsumer requirements) {
+    isNotNull();
+    requireNonNull(requirements, "The DoubleConsumer expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(Integer.MAX_VALUE);
+    if (actual.anySatisfy(element -> {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+      if (unsatisfiedRequirement == null) {
+        return true; // element satisfied the requirements
+      }
+      unsatisfiedRequirements.add(unsatisfiedRequirement);
+      return false;
+    })) {
+      return;
+    }
+
+    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements.toList(), info));
+  }
+
+  public SELF contains(double... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      DoubleIterable notFound = PrimitiveContains.missing(actual, values);
+
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAll(DoubleIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      DoubleIterable notFound = PrimitiveContains.missing(actual, values);
+      if (notFound.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContain(actual, values, notFound));
+    });
+  }
+
+  public SELF containsAnyOf(double... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      if (actual.isEmpty() && values.length == 0) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF containsAnyOf(DoubleIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      if (actual.isEmpty() && values.isEmpty()) {
+        return;
+      }
+
+      if (PrimitiveContains.containsAny(actual, values)) {
+        return;
+      }
+
+      throw assertionError(shouldContainAnyOf(actual, values));
+    });
+  }
+
+  public SELF doesNotContain(double... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      MutableDoubleList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+
+  public SELF doesNotContainAny(DoubleIterable values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The iterable of values to look for should not be null");
+
+      MutableDoubleList found = PrimitiveContains.present(actual, values);
+      if (found.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldNotContain(actual, values, found));
+    });
+  }
+
+  public SELF hasAverageCloseTo(double expected, Offset<Double> offset) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(offset, "The offset should not be null");
+      isNotEmpty();
+
+      double average = statistics().getAverage();
+      if (!Offsets.isBeyondOffset(average, expected, offset)) {
+        return;
+      }
+
+      throw assertionError(shouldHaveAverageCloseTo(actual, expected, offset, average));
+    });
+  }
+
+  public SELF hasMax(double expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+      isNotEmpty();
+
+      DoubleSummaryStatistics statistics = statistics();
+      if (Double.compare(statistics.getMax(), expected) == 0) {
+        return;
+      }
+
+      throw assertionError(shouldHaveMax(actual, expected, statistics.getMax()));
+    });
+  }
+
+  public SELF hasMin(double expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+      isNotEmpty();
+
+      DoubleSummaryStatistics statistics = statistics();
+      if (Double.compare(statistics.getMin(), expected) == 0) {
+        return;
+      }
+
+      throw assertionError(shouldHaveMin(actual, expected, statistics.getMin()));
+    });
+  }
+
+  public SELF hasSum(double expected) {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      double sum = statistics().getSum();
+      if (Double.compare(sum, expected) == 0) {
+        return;
+      }
+
+      throw assertionError(shouldHaveSum(actual, expected, sum));
+    });
+  }
+
+  public SELF hasSum(double expected, Offset<Double> offset) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(offset, "The offset should not be null");
+
+      double sum = statistics().getSum();
+      if (!Offsets.isBeyondOffset(sum, expected, offset)) {
+        return;
+      }
+
+      throw assertionError(shouldHaveSumCloseTo(actual, expected, offset, sum));
+    });
+  }
+
+  private DoubleSummaryStatistics statistics() {
+    if (summaryStatistics == null) {
+      summaryStatistics = actual.summaryStatistics();
+    }
+    return summaryStatistics;
+  }
+}
@@ -0,0 +1,1088 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
+import static org.assertj.core.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContainKey.shouldContainKey;
+import static org.assertj.core.error.ShouldContainKeys.shouldContainKeys;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
+import static org.assertj.core.error.ShouldContainValue.shouldContainValue;
+import static org.assertj.core.error.ShouldContainValues.shouldContainValues;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldHaveSizeBetween.shouldHaveSizeBetween;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThan.shouldHaveSizeGreaterThan;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThanOrEqualTo.shouldHaveSizeGreaterThanOrEqualTo;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveSizeLessThanOrEqualTo;
+import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.eclipse.collections.error.ScanTruncated.scanTruncated;
+import static org.assertj.eclipse.collections.error.ShouldBeEqualToMultimap.shouldBeEqualToMultimap;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSize.shouldHaveDistinctSize;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeGreaterThan.shouldHaveDistinctSizeGreaterThan;
+import static org.assertj.eclipse.collections.error.ShouldHaveDistinctSizeGreaterThanOrEqualTo.shouldHaveDistinctSizeGreaterThanOrEqualTo;
+import static org.assertj.eclipse.collections.error.ShouldHaveKeyCardinalityPercentileAtMost.shouldHaveKeyCardinalityPercentileAtMost;
+import static org.assertj.eclipse.collections.error.ShouldHaveMaxValuesPerKeyAtMost.shouldHaveMaxValuesPerKeyAtMost;
+import static org.assertj.eclipse.collections.error.ShouldHaveMinValuesPerKeyAtLeast.shouldHaveMinValuesPerKeyAtLeast;
+import static org.assertj.eclipse.collections.error.ShouldHaveValuesPerKeyBetween.shouldHaveValuesPerKeyBetween;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.Condition;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.GroupTypeDescription;
+import org.assertj.core.error.UnsatisfiedRequirement;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.multimap.sortedbag.SortedBagMultimap;
+import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * Base class for all implementations of assertions for {@link Multimap}.
+ *
+ * @param <SELF>   the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the actual Multimap.
+ * @param <KEY>    the type of keys in the Multimap.
+ * @param <VALUE>  the type of values in the Multimap.
+ */
+//@format:off
+public abstract class AbstractMultimapAssert<SELF extends AbstractMultimapAssert<SELF, ACTUAL, KEY, VALUE>,
+  ACTUAL extends Multimap<KEY, VALUE>,
+  KEY,
+  VALUE>
+  extends AbstractAssert<SELF, ACTUAL> {
+//@format:on
+  /**
+   * Maximum number of values looked up with {@link Multimap#containsValue(Object)}, which scans every value collection,
+   * before building a hashed index of the values.
+   */
+  private static final int LINEAR_LOOKUP_LIMIT = 8;
+
+  /**
+   * Maximum number of keys described in a failure message: the differing keys of {@link #isEqualToMultimap(Multimap)}
+   * and the worst offending keys of the assertions on the number of values per key.
+   */
+  private static final int MAX_REPORTED_KEYS = 10;
+
+  /**
+   * Hashed index of the distinct values of the actual Multimap. Built on demand, then reused by the value assertions
+   * chained on this assertion object.
+   */
+  private MutableSet<VALUE> valueIndex;
+
+  private int failureCap = Integer.MAX_VALUE;
+
+  protected AbstractMultimapAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that every distinct key of the actual {@link Multimap} satisfies the given requirements. The keys are
+   * visited once each, and the scan stops once the failure cap set with {@link #withFailureCap(int)} is reached.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).allKeysSatisfy(key -> assertThat(key).startsWith("Key"));
+   *
+   * // assertion will fail
+   * assertThat(multimap).allKeysSatisfy(key -> assertThat(key).endsWith("1"));
+   * }</pre>
+   *
+   * @param requirements the requirements each key has to satisfy.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError       if the actual {@link Multimap} is {@code null} or empty, or if a key does not satisfy
+   *                              the requirements.
+   */
+  public SELF allKeysSatisfy(Consumer<? super KEY> requirements) {
+    this.isNotNull();
+    this.isNotEmpty();
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(this.failureCap);
+    boolean truncated = this.actual.keysView().anySatisfy(key -> {
+      if (unsatisfiedRequirements.isFull()) {
+        return true; // only stop once there is a key left unchecked
+      }
+      UnsatisfiedRequirement unsatisfiedRequirement = AbstractRichIterableAssert.failsRequirements(requirements, key);
+      if (unsatisfiedRequirement != null) {
+        unsatisfiedRequirements.add(unsatisfiedRequirement);
+      }
+      return false;
+    });
+    return this.checkRequirements(unsatisfiedRequirements, truncated);
+  }
+
+  /**
+   * Verifies that every value of the actual {@link Multimap} satisfies the given requirements. Values associated with
+   * several keys, or several times with the same key, are checked once per occurrence. The scan stops once the failure
+   * cap set with {@link #withFailureCap(int)} is reached.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).allValuesSatisfy(value -> assertThat(value).startsWith("Value"));
+   *
+   * // assertion will fail
+   * assertThat(multimap).allValuesSatisfy(value -> assertThat(value).endsWith("1"));
+   * }</pre>
+   *
+   * @param requirements the requirements each value has to satisfy.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError       if the actual {@link Multimap} is {@code null} or empty, or if a value does not
+   *                              satisfy the requirements.
+   */
+  public SELF allValuesSatisfy(Consumer<? super VALUE> requirements) {
+    this.isNotNull();
+    this.isNotEmpty();
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(this.failureCap);
+    boolean truncated = this.actual.valuesView().anySatisfy(value -> {
+      if (unsatisfiedRequirements.isFull()) {
+        return true; // only stop once there is a value left unchecked
+      }
+      UnsatisfiedRequirement unsatisfiedRequirement = AbstractRichIterableAssert.failsRequirements(requirements, value);
+      if (unsatisfiedRequirement != null) {
+        unsatisfiedRequirements.add(unsatisfiedRequirement);
+      }
+      return false;
+    });
+    return this.checkRequirements(unsatisfiedRequirements, truncated);
+  }
+
+  /**
+   * Verifies that the actual {@link Multimap} contains the given entries. Entries are given in the form of {@link
+   * Pair} objects.
+   * <p>
+   * Example:
+   * <pre>{@code
+   *     Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   *     // assertion will pass
+   *     assertThat(multimap).contains(Tuples.pair("Key1", "Value1"), Tuples.pair("Key2", "Value2"));
+   *
+   *     // assertion will fail
+   *     assertThat(multimap).contains(Tuples.pair("Key1", "Value3"), Tuples.pair("Key2", "Value1"));
+   *     }</pre>
+   *
+   * @param entries the entries that are expected to be present in the {@link Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@link Multimap} does not contain the given entries
+   */
+  @SafeVarargs
+  public final SELF contains(Pair<KEY, VALUE>... entries) {
+    return this.containsForProxy(Lists.mutable.of(entries));
+  }
+
+  /**
+   * Verifies that the actual {@code Multimap} contains the provided entries. Entries are provided as
+   * an array of {@code Map.Entry} objects.
+   *
+   * @param entries the entries that are expected to be contained within the {@code Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@code Multimap} does not contain one or more of the specified entries.
+   */
+  @SafeVarargs
+  public final SELF contains(Map.Entry<KEY, VALUE>... entries) {
+    MutableList<Pair<KEY, VALUE>> pairs = Lists.mutable.of(entries).collect(Tuples::pairFrom);
+    return this.containsForProxy(pairs);
+  }
+
+  /**
+   * Verifies that the actual {@code Multimap} contains the provided entries.
+   *
+   * @param entries the list of entries that are expected to be contained within the {@code Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@code Multimap} does not contain one or more of the specified entries.
+   */
+  protected SELF containsForProxy(MutableList<Pair<KEY, VALUE>> entries) {
+    this.isNotNull();
+    MutableList<Pair<KEY, VALUE>> entriesNotFound = entries
+      .reject(entry -> this.actual.containsKeyAndValue(entry.getOne(), entry.getTwo()));
+    if (entriesNotFound.isEmpty()) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldContain(this.actual, entries, entriesNotFound));
+  }
+
+  /**
+   * Verifies that the actual {@link Multimap} contains all the given values for the given key. The values of the key
+   * are fetched with a single lookup, so the cost of the assertion depends on the number of values of that key rather
+   * than on the size of the {@link Multimap}.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).containsEntries("Key1", "Value1", "Value2");
+   *
+   * // assertion will fail
+   * assertThat(multimap).containsEntries("Key1", "Value1", "Value3");
+   * }</pre>
+   *
+   * @param key    the key whose values are checked.
+   * @param values the values that are expected to be associated with the given key.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given values are {@code null}.
+   * @throws AssertionError       if the actual {@link Multimap} does not associate all the given values with the key.
+   */
+  public SELF containsEntries(KEY key, VALUE... values) {
+    this.isNotNull();
+    requireNonNull(values, "The array of values to look for should not be null");
+
+    RichIterable<VALUE> valuesForKey = this.actual.get(key);
+    if (values.length > LINEAR_LOOKUP_LIMIT && !(valuesForKey instanceof SetIterable<?>) && !(valuesForKey instanceof Bag<?>)) {
+      valuesForKey = valuesForKey.toSet();
+    }
+    MutableList<VALUE> valuesNotFound = Lists.mutable.of(values).reject(valuesForKey::contains);
+    if (valuesNotFound.isEmpty()) {
+      return this.myself;
+    }
+
+    MutableList<Pair<KEY, VALUE>> entries = Lists.mutable.of(values).collect(value -> Tuples.pair(key, value));
+    MutableList<Pair<KEY, VALUE>> entriesNotFound = valuesNotFound.collect(value -> Tuples.pair(key, value));
+    throw this.assertionError(shouldContain(this.actual, entries, entriesNotFound));
+  }
+
+  /**
+   * Verifies that the actual {@link Multimap} contains the given key-value entry.
+   *
+   * @param key   the key that is expected to be present in the {@link Multimap}.
+   * @param value the value that is expected to be associated with the given key in the {@link Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@link Multimap} does not contain the given key-value entry.
+   * @see #contains(Pair[])
+   * @see #contains(Map.Entry[])
+   */
+  public SELF containsEntry(KEY key, VALUE value) {
+    return this.contains(Tuples.pair(key, value));
+  }
+
+  /**
+   * Verifies that the actual {@link Multimap} contains the given keys.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).containsKeys("Key1", "Key2");
+   *
+   * // assertion will fail
+   * assertThat(multimap).containsKeys("Key3");
+   * }</pre>
+   *
+   * @param keys the keys that are expected to be present in the {@link Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@link Multimap} does not contain the given keys.
+   */
+  public SELF containsKeys(KEY... keys) {
+    this.isNotNull();
+    MutableList<KEY> keysNotFound = Lists.mutable.of(keys).reject(this.actual::containsKey);
+    if (keysNotFound.isEmpty()) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldContainKeys(this.actual, keysNotFound.toSet()));
+  }
+
+  /**
+   * Verifies that the map contains only the given entries.
+   *
+   * @param entries the array of map entries to validate against the map
+   * @return this assertion object for method chaining
+   * @throws AssertionError if the actual {@link Multimap} does not contain only the given entries.
+   */
+  @SafeVarargs
+  public final SELF containsOnly(Map.Entry<? extends KEY, ? extends VALUE>... entries) {
+    MutableList<Pair<? extends KEY, ? extends VALUE>> pairs = Lists.mutable.of(entries).collect(Tuples::pairFrom);
+    return this.containsOnlyForProxy(pairs);
+  }
+
+  /**
+   * Verifies that the current object contains only the specified pairs of key-value entries.
+   *
+   * @param entries the pairs of key-value entries to check against
+   * @return this assertion object for method chaining
+   * @throws AssertionError if the actual {@link Multimap} does not contain only the given entries.
+   */
+  @SafeVarargs
+  public final SELF containsOnly(Pair<? extends KEY, ? extends VALUE>... entries) {
+    return this.containsOnlyForProxy(Lists.mutable.of(entries));
+  }
+
+  /**
+   * Verifies that the current object contains only the specified list of pairs of key-value entries.
+   *
+   * @param entries the list of pairs of key-value entries to check against
+   * @return this assertion object for method chaining
+   * @throws AssertionError if the actual {@link Multimap} does not contain only the given entries.
+   */
+  protected SELF containsOnlyForProxy(MutableList<Pair<? extends KEY, ? extends VALUE>> entries) {
+    this.isNotNull();
+    MutableSetMultimap<Object, Object> expectedIndex = Multimaps.mutable.set.empty();
+    MutableList<Pair<? extends KEY, ? extends VALUE>> notFound = Lists.mutable.empty();
+    entries.forEach(entry -> {
+      expectedIndex.put(entry.getOne(), entry.getTwo());
+      if (!this.actual.containsKeyAndValue(entry.getOne(), entry.getTwo())) {
+        notFound.add(entry);
+      }
+    });
+
+    // Every expected entry present in actual has been found, so the hashed index of the expected entries is enough to
+    // spot the unexpected ones. Pairs are only created for those, to report them.
+    MutableList<Pair<KEY, VALUE>> notExpected = Lists.mutable.empty();
+    this.actual.forEachKeyValue((key, value) -> {
+      if (!expectedIndex.containsKeyAndValue(key, value)) {
+        notExpected.add(Tuples.pair(key, value));
+      }
+    });
+
+    if (notFound.isEmpty() && notExpected.isEmpty()) {
+      return this.myself;
+    }
+
+    GroupTypeDescription groupTypeDescription = new GroupTypeDescription("multimap", "multimap entries");
+    throw this.assertionError(shouldContainOnly(this.actual, entries, notFound, notExpected, groupTypeDescription));
+  }
+
+  /**
+   * Verifies that the actual map contains the given values.
+   *
+   * @param values the values expected to be present in the actual map
+   * @return the current assertion object for method chaining
+   * @throws AssertionError if the actual map does not contain the given values
+   */
+  public SELF containsValues(VALUE... values) {
+    this.isNotNull();
+    MutableList<VALUE> valuesNotFound = values.length > LINEAR_LOOKUP_LIMIT && this.hasHashedValues()
+      ? Lists.mutable.of(values).reject(this.valueIndex()::contains)
+      : Lists.mutable.of(values).reject(this.actual::containsValue);
+    if (valuesNotFound.isEmpty()) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldContainValues(this.actual, valuesNotFound.toSet()));
+  }
+
+  /**
+   * Verifies that the values of each key of the actual {@link Multimap} satisfy the given requirements. The key and its
+   * group of values are passed together, each group being visited exactly once, without looking the key up. Once the
+   * failure cap set with {@link #withFailureCap(int)} is reached, the remaining groups are skipped.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).eachKeyValuesSatisfy((key, values) -> assertThat(values).isNotEmpty());
+   *
+   * // assertion will fail
+   * assertThat(multimap).eachKeyValuesSatisfy((key, values) -> assertThat(values).hasSize(2));
+   * }</pre>
+   *
+   * @param requirements the requirements each key and its values have to satisfy.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError       if the actual {@link Multimap} is {@code null} or empty, or if the values of a key do
+   *                              not satisfy the requirements.
+   */
+  public SELF eachKeyValuesSatisfy(BiConsumer<? super KEY, ? super RichIterable<VALUE>> requirements) {
+    this.isNotNull();
+    this.isNotEmpty();
+    requireNonNull(requirements, "The BiConsumer<K, V> expressing the assertions requirements must not be null");
+
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(this.failureCap);
+    boolean[] truncated = {false};
+    this.actual.forEachKeyMultiValues((key, values) -> {
+      if (truncated[0]) {
+        return;
+      }
+      if (unsatisfiedRequirements.isFull()) {
+        truncated[0] = true; // only report a truncation once there is a key left unchecked
+        return;
+      }
+      try {
+        requirements.accept(key, values);
+      } catch (AssertionError ex) {
+        unsatisfiedRequirements.add(new UnsatisfiedRequirement(key, ex));
+      }
+    });
+    return this.checkRequirements(unsatisfiedRequirements, truncated[0]);
+  }
+
+  /**
+   * Makes {@code allKeysSatisfy}, {@code allValuesSatisfy} and {@code eachKeyValuesSatisfy} stop at the first failure,
+   * reporting only that failure. This is equivalent to {@code withFailureCap(1)}.
+   *
+   * @return this assertion object for method chaining.
+   */
+  public SELF failFast() {
+    return this.withFailureCap(1);
+  }
+
+  /**
+   * Verifies that the actual {@code Multimap} has the expected number of distinct keys.
+   *
+   * @param expected the expected number of distinct keys in the {@code Multimap}.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual number of distinct keys in the {@code Multimap} does not match the expected size.
+   */
+  public SELF hasDistinctSize(int expected) {
+    this.isNotNull();
+    int actualSize = this.actual.sizeDistinct();
+    if (actualSize == expected) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveDistinctSize(this.actual, actualSize, expected));
+  }
+
+  /**
+   * Verifies that the distinct size of the {@link Multimap} is greater than the specified boundary.
+   *
+   * @param boundary the size that the actual number of distinct keys should exceed.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual distinct size of the {@link Multimap} is not greater than the specified boundary.
+   */
+  public SELF hasDistinctSizeGreaterThan(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.sizeDistinct();
+    if (actualSize > boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveDistinctSizeGreaterThan(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that the distinct size of the {@link Multimap} is greater than or equal to the specified boundary.
+   *
+   * @param boundary the minimum distinct size to compare the Multimap against
+   * @return this assertion for method chaining
+   * @throws AssertionError if the distinct size of the collection is less than the specified boundary
+   */
+  public SELF hasDistinctSizeGreaterThanOrEqualTo(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.sizeDistinct();
+    if (actualSize >= boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveDistinctSizeGreaterThanOrEqualTo(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that, at the given percentile, the keys of the actual {@link Multimap} hold at most the given number of
+   * values. The percentile uses the nearest-rank method: {@code hasKeyCardinalityPercentileAtMost(90, 3)} passes when at
+   * least 90% of the keys hold 3 values or fewer. The assertion passes without computing the percentile when no key
+   * holds more than {@code max} values; otherwise the percentile is found with a selection rather than a full sort.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2", "Key2", "Value3");
+   *
+   * // assertions will pass
+   * assertThat(multimap).hasKeyCardinalityPercentileAtMost(50, 1);
+   * assertThat(multimap).hasKeyCardinalityPercentileAtMost(100, 2);
+   *
+   * // assertion will fail
+   * assertThat(multimap).hasKeyCardinalityPercentileAtMost(100, 1);
+   * }</pre>
+   *
+   * @param percentile the percentile to check, greater than 0 and at most 100.
+   * @param max        the maximum number of values allowed per key at that percentile.
+   * @return this assertion object for method chaining.
+   * @throws IllegalArgumentException if the percentile is not greater than 0 and at most 100.
+   * @throws AssertionError           if the actual {@link Multimap} is {@code null} or its keys hold more than
+   *                                  {@code max} values at the given percentile.
+   */
+  public SELF hasKeyCardinalityPercentileAtMost(double percentile, int max) {
+    this.isNotNull();
+    checkArgument(percentile > 0 && percentile <= 100, "The percentile must be greater than 0 and at most 100 but was <%s>", percentile);
+
+    KeyCardinalities<KEY> cardinalities = KeyCardinalities.of(this.actual);
+    if (cardinalities.max() <= max) {
+      return this.myself;
+    }
+    int actualPercentile = cardinalities.percentile(percentile);
+    if (actualPercentile <= max) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveKeyCardinalityPercentileAtMost(this.actual, percentile, max, actualPercentile,
+      cardinalities.worstOffenders(count -> count > max, count -> count, MAX_REPORTED_KEYS)));
+  }
+
+  /**
+   * Verifies that at least one key in the actual {@link Multimap} satisfies the given condition.
+   *
+   * @param keyCondition the condition to evaluate the keys against; must not be null.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the provided condition is null.
+   * @throws AssertionError       if none of the keys in the {@link Multimap} satisfy the given condition.
+   */
+  public SELF hasKeySatisfying(Condition<? super KEY> keyCondition) {
+    this.isNotNull();
+    requireNonNull(keyCondition, "The condition to evaluate should not be null");
+
+    if (this.actual.keysView().anySatisfy(keyCondition::matches)) {
+      return this.myself;
+    }
+
+    throw this.assertionError(shouldContainKey(this.actual, keyCondition));
+  }
+
+  /**
+   * Verifies that no key of the actual {@link Multimap} holds more than the given number of values. The number of values
+   * of each key is computed in a single pass, and the failure message names the keys holding the most values.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasMaxValuesPerKeyAtMost(2);
+   *
+   * // assertion will fail
+   * assertThat(multimap).hasMaxValuesPerKeyAtMost(1);
+   * }</pre>
+   *
+   * @param boundary the maximum number of values allowed per key.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@link Multimap} is {@code null} or one of its keys holds more than
+   *                        {@code boundary} values.
+   */
+  public SELF hasMaxValuesPerKeyAtMost(int boundary) {
+    this.isNotNull();
+
+    KeyCardinalities<KEY> cardinalities = KeyCardinalities.of(this.actual);
+    if (cardinalities.max() <= boundary) {
+      return this.myself;
+    }
+    IntPredicate offending = count -> count > boundary;
+    throw this.assertionError(shouldHaveMaxValuesPerKeyAtMost(this.actual, boundary, cardinalities.countOffenders(offending),
+      cardinalities.worstOffenders(offending, count -> count, MAX_REPORTED_KEYS)));
+  }
+
+  /**
+   * Verifies that every key of the actual {@link Multimap} holds at least the given number of values. The number of
+   * values of each key is computed in a single pass, and the failure message names the keys holding the fewest values.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasMinValuesPerKeyAtLeast(1);
+   *
+   * // assertion will fail
+   * assertThat(multimap).hasMinValuesPerKeyAtLeast(2);
+   * }</pre>
+   *
+   * @param boundary the minimum number of values required per key.
+   * @return this assertion object for method chaining.
+   * @throws AssertionError if the actual {@link Multimap} is {@code null} or one of its keys holds fewer than
+   *                        {@code boundary} values.
+   */
+  public SELF hasMinValuesPerKeyAtLeast(int boundary) {
+    this.isNotNull();
+
+    KeyCardinalities<KEY> cardinalities = KeyCardinalities.of(this.actual);
+    if (cardinalities.isEmpty() || cardinalities.min() >= boundary) {
+      return this.myself;
+    }
+    IntPredicate offending = count -> count < boundary;
+    throw this.assertionError(shouldHaveMinValuesPerKeyAtLeast(this.actual, boundary, cardinalities.countOffenders(offending),
+      cardinalities.worstOffenders(offending, count -> -count, MAX_REPORTED_KEYS)));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is equal to the given one.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key", "Value1", "Key", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasSize(2);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSize(0);
+   * assertThat(multimap).hasSize(1);
+   * }</pre>
+   *
+   * @param expected the expected size of the {@link Multimap}.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual size of the {@link Multimap} is not equal to the expected size.
+   */
+  public SELF hasSize(int expected) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize == expected) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSize(this.actual, actualSize, expected));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is between the given boundaries
+   * (inclusive).
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasSizeBetween(1, 4)
+   *                     .hasSizeBetween(2, 3);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSizeBetween(4, 5);
+   * }</pre>
+   *
+   * @param lowerBoundary  the lower boundary compared to which actual size should be greater than or equal to.
+   * @param higherBoundary the higher boundary compared to which actual size should be less than or equal to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual size of the {@link Multimap} is not between the given boundaries.
+   */
+  public SELF hasSizeBetween(int lowerBoundary, int higherBoundary) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize >= lowerBoundary && actualSize <= higherBoundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSizeBetween(this.actual, actualSize, lowerBoundary, higherBoundary));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is greater than the specified boundary.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasSizeGreaterThan(1);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSizeGreaterThan(3);
+   * assertThat(multimap).hasSizeGreaterThan(4);
+   * }</pre>
+   *
+   * @param boundary the size that the actual number of key-value pairs should exceed.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual size of the {@link Multimap} is not greater than the specified boundary.
+   */
+  public SELF hasSizeGreaterThan(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize > boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSizeGreaterThan(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is greater than or equal to the
+   * boundary.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertions will pass
+   * assertThat(multimap).hasSizeGreaterThanOrEqualTo(1)
+   *                     .hasSizeGreaterThanOrEqualTo(2);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSizeGreaterThanOrEqualTo(3);
+   * assertThat(multimap).hasSizeGreaterThanOrEqualTo(5);
+   * }</pre>
+   *
+   * @param boundary the minimum size (inclusive) the {@link Multimap} should have.
+   * @return {@code this} assertion object for method chaining.
+   * @throws AssertionError if the actual size of the {@link Multimap} is less than the expected size.
+   */
+  public SELF hasSizeGreaterThanOrEqualTo(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize >= boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSizeGreaterThanOrEqualTo(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is less than the boundary.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasSizeLessThan(3);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSizeLessThan(1);
+   * assertThat(multimap).hasSizeLessThan(2);
+   * }</pre>
+   *
+   * @param boundary the maximum size (exclusive) the {@link Multimap} should have.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual size of the {@link Multimap} is not less than the expected size.
+   */
+  public SELF hasSizeLessThan(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize < boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSizeLessThan(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that the number of key-value entry pairs in the {@link Multimap} is less than or equal to the boundary.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasSizeLessThanOrEqualTo(2)
+   *                     .hasSizeLessThanOrEqualTo(3);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasSizeLessThanOrEqualTo(0);
+   * assertThat(multimap).hasSizeLessThanOrEqualTo(1);
+   * }</pre>
+   *
+   * @param boundary the maximum expected size of the {@link Multimap}.
+   * @return {@code this} assertion object for method chaining.
+   * @throws AssertionError if the actual size of the {@link Multimap} is greater than the expected size.
+   */
+  public SELF hasSizeLessThanOrEqualTo(int boundary) {
+    this.isNotNull();
+    int actualSize = this.actual.size();
+    if (actualSize <= boundary) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSizeLessThanOrEqualTo(this.actual, actualSize, boundary));
+  }
+
+  /**
+   * Verifies that at least one value in the actual {@link Multimap} satisfies the given condition.
+   *
+   * @param valueCondition the condition to evaluate the values against; must not be null.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the provided condition is null.
+   * @throws AssertionError       if none of the values in the {@link Multimap} satisfy the given condition.
+   */
+  public SELF hasValueSatisfying(Condition<? super VALUE> valueCondition) {
+    this.isNotNull();
+    requireNonNull(valueCondition, "The condition to evaluate should not be null");
+
+    if (this.actual.valuesView().anySatisfy(valueCondition::matches)) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldContainValue(this.actual, valueCondition));
+  }
+
+  /**
+   * Verifies that every key of the actual {@link Multimap} holds a number of values between the given boundaries
+   * (inclusive). The number of values of each key is computed in a single pass, and the failure message names the keys
+   * furthest from the range.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key2", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).hasValuesPerKeyBetween(1, 2);
+   *
+   * // assertions will fail
+   * assertThat(multimap).hasValuesPerKeyBetween(2, 3);
+   * assertThat(multimap).hasValuesPerKeyBetween(0, 1);
+   * }</pre>
+   *
+   * @param lowerBoundary the minimum number of values required per key (inclusive).
+   * @param upperBoundary the maximum number of values allowed per key (inclusive).
+   * @return this assertion object for method chaining.
+   * @throws IllegalArgumentException if the upper boundary is lower than the lower boundary.
+   * @throws AssertionError           if the actual {@link Multimap} is {@code null} or one of its keys holds a number of
+   *                                  values outside of the boundaries.
+   */
+  public SELF hasValuesPerKeyBetween(int lowerBoundary, int upperBoundary) {
+    this.isNotNull();
+    checkArgument(lowerBoundary <= upperBoundary, "The higher boundary <%s> must be greater than the lower boundary <%s>.",
+      upperBoundary, lowerBoundary);
+
+    KeyCardinalities<KEY> cardinalities = KeyCardinalities.of(this.actual);
+    if (cardinalities.isEmpty() || (cardinalities.min() >= lowerBoundary && cardinalities.max() <= upperBoundary)) {
+      return this.myself;
+    }
+    IntPredicate offending = count -> count < lowerBoundary || count > upperBoundary;
+    IntUnaryOperator distance = count -> count > upperBoundary ? count - upperBoundary : lowerBoundary - count;
+    throw this.assertionError(shouldHaveValuesPerKeyBetween(this.actual, lowerBoundary, upperBoundary,
+      cardinalities.countOffenders(offending), cardinalities.worstOffenders(offending, distance, MAX_REPORTED_KEYS)));
+  }
+
+  /**
+   * Verifies that the {@link Multimap} is empty.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * // assertion will pass
+   * assertThat(Multimaps.mutable.list.empty()).isEmpty();
+   *
+   * // assertion will fail
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key", "Value");
+   * assertThat(multimap).isEmpty();
+   * }</pre>
+   *
+   * @throws AssertionError if the {@link Multimap} of values is not empty.
+   */
+  public void isEmpty() {
+    this.isNotNull();
+    if (!this.actual.isEmpty()) {
+      throw this.assertionError(shouldBeEmpty(this.actual));
+    }
+  }
+
+  /**
+   * Verifies that the actual {@link Multimap} has the same keys as the given one, and that each key has the same values
+   * with the same number of occurrences. The order of the values is ignored.
+   * <p>
+   * Unlike {@link #isEqualTo(Object)}, the failure message does not print both multimaps. It counts the keys that could
+   * not be found, the unexpected keys and the keys whose values differ, and only describes the first 10 of them.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).isEqualToMultimap(Multimaps.mutable.bag.with("Key1", "Value2", "Key1", "Value1", "Key2", "Value3"));
+   *
+   * // assertion will fail
+   * assertThat(multimap).isEqualToMultimap(Multimaps.mutable.list.with("Key1", "Value1", "Key3", "Value3"));
+   * }</pre>
+   *
+   * @param expected the multimap to compare to.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given multimap is {@code null}.
+   * @throws AssertionError       if the actual {@link Multimap} is {@code null} or is not equal to the given one.
+   */
+  @SuppressWarnings("unchecked")
+  public SELF isEqualToMultimap(Multimap<? extends KEY, ? extends VALUE> expected) {
+    this.isNotNull();
+    requireNonNull(expected, "The multimap to compare to should not be null");
+
+    // Only read from, so viewing the expected multimap with the types of actual is safe
+    MultimapDiff<KEY, VALUE> diff = MultimapDiff.diff(this.actual, (Multimap<KEY, VALUE>) expected, MAX_REPORTED_KEYS);
+    if (diff.isEmpty()) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldBeEqualToMultimap(diff.missingKeyCount(), diff.missingKeys(),
+      diff.unexpectedKeyCount(), diff.unexpectedKeys(), diff.differentValuesKeyCount(), diff.differentValues()));
+  }
+
+  /**
+   * Verifies that the {@link Multimap} is not empty.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * // assertion will pass
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key", "Value");
+   * assertThat(multimap).isNotEmpty();
+   *
+   * // assertion will fail
+   * assertThat(Multimaps.mutable.list.empty()).isNotEmpty();
+   * }</pre>
+   *
+   * @return this assertion object for method chaining
+   * @throws AssertionError if the {@link Multimap} of values is empty.
+   */
+  public SELF isNotEmpty() {
+    this.isNotNull();
+    if (!this.actual.isEmpty()) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldNotBeEmpty());
+  }
+
+  /**
+   * Verifies that the {@link Multimap} is null or empty.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * // assertions that will pass
+   * Multimap<String, String> multimap = null;
+   * assertThat(multimap).isNullOrEmpty();
+   *
+   * Multimap<String, String> emptyMultimap = Multimaps.mutable.list.empty();
+   * assertThat(emptyMultimap).isNullOrEmpty();
+   *
+   * // assertion will fail
+   * Multimap<String, String> multimapWithElements = Multimaps.mutable.list.with("Key", "Value");
+   * assertThat(multimapWithElements).isNullOrEmpty();
+   * }</pre>
+   *
+   * @throws AssertionError if the {@link Multimap} is either null or empty.
+   */
+  public void isNullOrEmpty() {
+    if (this.actual == null || this.actual.isEmpty()) {
+      return;
+    }
+    throw this.assertionError(shouldBeNullOrEmpty(this.actual));
+  }
+
+  /**
+   * Navigates to the values associated with the given key in the actual {@link Multimap}. The values are fetched with
+   * {@link Multimap#get(Object)}, without scanning the rest of the {@link Multimap}, and the returned assertion matches
+   * the type of the value collection: a {@link ListIterableAssert} for a list multimap, a {@link SetIterableAssert} for
+   * a set multimap, a {@link BagAssert} for a bag multimap, and so on. A key that is not present has no values.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * Multimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).valuesForKey("Key1").containsExactly("Value1", "Value2");
+   *
+   * // assertion will fail
+   * assertThat(multimap).valuesForKey("Key2").contains("Value1");
+   * }</pre>
+   *
+   * @param key the key whose values to navigate to.
+   * @return a new assertion object on the values of the given key.
+   * @throws AssertionError if the actual {@link Multimap} is {@code null}.
+   */
+  public AbstractRichIterableAssert<?, ?, VALUE, ?> valuesForKey(KEY key) {
+    this.isNotNull();
+    return toValuesAssert(this.actual.get(key)).as(valuesForKeyDescription(key));
+  }
+
+  /**
+   * Makes {@code allKeysSatisfy}, {@code allValuesSatisfy} and {@code eachKeyValuesSatisfy} stop once the given number
+   * of failures has been collected. The error message reports the failures found so far and states that the scan was
+   * truncated. By default, everything is checked and every failure is reported.
+   *
+   * @param maxFailures the maximum number of failures to collect before failing.
+   * @return this assertion object for method chaining.
+   * @throws IllegalArgumentException if {@code maxFailures} is not strictly positive.
+   */
+  public SELF withFailureCap(int maxFailures) {
+    checkArgument(maxFailures > 0, "The failure cap must be greater than 0 but was <%s>", maxFailures);
+    this.failureCap = maxFailures;
+    return this.myself;
+  }
+
+  /**
+   * Builds the description of the assertion returned by {@code valuesForKey}. The description of this assertion, if
+   * any, is kept and the key is appended to it.
+   *
+   * @param key the key whose values are navigated to.
+   * @return the description of the values of the given key.
+   */
+  protected String valuesForKeyDescription(KEY key) {
+    String valuesForKey = "values for key <%s>".formatted(key);
+    String description = this.descriptionText();
+    return description == null || description.isEmpty() ? valuesForKey : description + " " + valuesForKey;
+  }
+
+  /**
+   * Creates the assertion object matching the type of the given values.
+   *
+   * @param values the values of one key of the actual {@link Multimap}.
+   * @return the assertion object on the given values.
+   */
+  protected AbstractRichIterableAssert<?, ?, VALUE, ?> toValuesAssert(RichIterable<VALUE> values) {
+    if (values instanceof ListIterable<VALUE> list) {
+      return new ListIterableAssert<>(list);
+    }
+    if (values instanceof SortedSetIterable<VALUE> sortedSet) {
+      return new SortedSetIterableAssert<>(sortedSet);
+    }
+    if (values instanceof SetIterable<VALUE> set) {
+      return new SetIterableAssert<>(set);
+    }
+    if (values instanceof SortedBag<VALUE> sortedBag) {
+      return new SortedBagAssert<>(sortedBag);
+    }
+    if (values instanceof Bag<VALUE> bag) {
+      return new BagAssert<>(bag);
+    }
+    return new RichIterableAssert<>(values);
+  }
+
+  /**
+   * Returns whether the values of the actual Multimap are compared with {@code equals}, so that they can be looked up in
+   * a hashed index. The values of sorted multimaps are compared with the comparator of their collections instead.
+   *
+   * @return {@code true} if the values can be indexed in a hashed set, {@code false} otherwise.
+   */
+  private boolean hasHashedValues() {
+    return !(this.actual instanceof SortedSetMultimap<?, ?>) && !(this.actual instanceof SortedBagMultimap<?, ?>);
+  }
+
+  /**
+   * Returns the hashed index of the distinct values of the actual Multimap, building it with a single pass over the
+   * values on first use.
+   *
+   * @return the distinct values of the actual Multimap.
+   */
+  private MutableSet<VALUE> valueIndex() {
+    if (this.valueIndex == null) {
+      MutableSet<VALUE> index = Sets.mutable.empty();
+      this.actual.forEachValue(index::add);
+      this.valueIndex = index;
+    }
+    return this.valueIndex;
+  }
+
+  private SELF checkRequirements(FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements,
+    boolean truncated) {
+    if (unsatisfiedRequirements.isEmpty()) {
+      return this.myself;
+    }
+    ErrorMessageFactory errorMessageFactory = elementsShouldSatisfy(this.actual, unsatisfiedRequirements.toList(), this.info);
+    throw this.assertionError(truncated ? scanTruncated(errorMessageFactory, unsatisfiedRequirements.size()) : errorMessageFactory);
+  }
+}
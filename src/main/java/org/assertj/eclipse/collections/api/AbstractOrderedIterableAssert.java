@@ -15,9 +15,17 @@
  */
 package org.assertj.eclipse.collections.api;
 
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
+import static org.assertj.core.error.ShouldContainExactly.shouldContainExactly;
+
+import java.util.Iterator;
+import java.util.Objects;
+
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.InstanceOfAssertFactory;
 import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 
 //@format:off
 public abstract class AbstractOrderedIterableAssert<SELF extends AbstractOrderedIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>,
@@ -53,6 +61,43 @@ public abstract class AbstractOrderedIterableAssert<SELF extends AbstractOrdered
       () -> nullValueAssert(assertFactory));
   }
 
+  @Override
+  protected SELF containsExactlyForProxy(ELEMENT[] values) {
+    if (!usesStandardElementComparison()) {
+      return super.containsExactlyForProxy(values);
+    }
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      ArrayAdapter<ELEMENT> valuesList = ArrayAdapter.adapt(values);
+      int mismatchIndex = actual.size() == values.length ? indexOfFirstMismatch(valuesList) : 0;
+      if (mismatchIndex == -1) {
+        return;
+      }
+
+      ElementsDiff<ELEMENT> diff = ElementsDiff.diff(actual, valuesList);
+      if (diff.isEmpty()) {
+        // Same elements, different order
+        throw assertionError(elementsDifferAtIndex(actual.toList().get(mismatchIndex), values[mismatchIndex], mismatchIndex));
+      }
+
+      throw assertionError(shouldContainExactly(actual, valuesList, diff.notFound(), diff.notExpected()));
+    });
+  }
+
+  /**
+   * Walks the actual OrderedIterable and the expected values side by side, stopping at the first pair of elements that
+   * are not equal. Both sides are expected to have the same size.
+   *
+   * @param values the expected values.
+   * @return the index of the first mismatch or {@code -1} if all the elements are equal.
+   */
+  private int indexOfFirstMismatch(Iterable<ELEMENT> values) {
+    Iterator<ELEMENT> expected = values.iterator();
+    return actual.detectIndex(element -> !Objects.equals(element, expected.next()));
+  }
+
   private ELEMENT_ASSERT internalFirst() {
     isNotEmpty();
     return toAssert(actual.getFirst(), navigationDescription("check first element"));
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.eclipse.collections.error.ShouldContainExactlyValuesForKey.shouldContainExactlyValuesForKey;
+import static org.assertj.eclipse.collections.error.ShouldHaveSortedValuesForKey.shouldHaveSortedValuesForKey;
+
+import java.util.Comparator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.multimap.ordered.OrderedIterableMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+
+/**
+ * Base class for the assertions on the {@link OrderedIterableMultimap} implementations, whose values are kept in order
+ * for each key. On top of the {@link AbstractMultimapAssert} assertions, the order of the values of each key can be
+ * verified. The values are walked in order, and every check stops at the first value out of place.
+ *
+ * @param <SELF>   the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the actual OrderedIterableMultimap.
+ * @param <KEY>    the type of keys in the OrderedIterableMultimap.
+ * @param <VALUE>  the type of values in the OrderedIterableMultimap.
+ */
+//@format:off
+public abstract class AbstractOrderedIterableMultimapAssert<SELF extends AbstractOrderedIterableMultimapAssert<SELF, ACTUAL, KEY, VALUE>,
+  ACTUAL extends OrderedIterableMultimap<KEY, VALUE>,
+  KEY,
+  VALUE>
+  extends AbstractMultimapAssert<SELF, ACTUAL, KEY, VALUE> {
+//@format:on
+
+  protected AbstractOrderedIterableMultimapAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the values of every key of the actual multimap are sorted according to the given comparator. Each
+   * group of values is visited once, along with its key.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * ListMultimap<String, Integer> multimap = Multimaps.mutable.list.with("Key1", 1, "Key1", 2, "Key2", 3);
+   *
+   * // assertion will pass
+   * assertThat(multimap).allValueListsSorted(Comparator.naturalOrder());
+   *
+   * // assertion will fail
+   * assertThat(multimap).allValueListsSorted(Comparator.reverseOrder());
+   * }</pre>
+   *
+   * @param comparator the comparator defining the expected order of the values.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError       if the actual multimap is {@code null} or the values of one of its keys are not
+   *                              sorted.
+   */
+  public SELF allValueListsSorted(Comparator<? super VALUE> comparator) {
+    this.isNotNull();
+    requireNonNull(comparator, "The comparator should not be null");
+
+    this.actual.forEachKeyMultiValues((key, values) -> {
+      int index = OrderedValues.firstUnsorted(values, comparator);
+      if (index >= 0) {
+        throw this.assertionError(shouldHaveSortedValuesForKey(key, values, index, OrderedValues.valueAt(values, index),
+          OrderedValues.valueAt(values, index + 1), comparator));
+      }
+    });
+    return this.myself;
+  }
+
+  /**
+   * Verifies that the given key of the actual multimap is associated with exactly the given values, in the given order.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * ListMultimap<String, String> multimap = Multimaps.mutable.list.with("Key1", "Value1", "Key1", "Value2", "Key2", "Value3");
+   *
+   * // assertion will pass
+   * assertThat(multimap).containsExactlyValuesForKey("Key1", "Value1", "Value2");
+   *
+   * // assertions will fail
+   * assertThat(multimap).containsExactlyValuesForKey("Key1", "Value2", "Value1");
+   * assertThat(multimap).containsExactlyValuesForKey("Key1", "Value1");
+   * }</pre>
+   *
+   * @param key    the key whose values to check.
+   * @param values the expected values of the key, in order.
+   * @return this assertion object for method chaining.
+   * @throws NullPointerException if the given values are {@code null}.
+   * @throws AssertionError       if the actual multimap is {@code null} or the values of the key are not exactly the
+   *                              given ones in the given order.
+   */
+  public SELF containsExactlyValuesForKey(KEY key, VALUE... values) {
+    this.isNotNull();
+    requireNonNull(values, "The values to look for should not be null");
+
+    OrderedIterable<VALUE> valuesForKey = this.actual.get(key);
+    int index = OrderedValues.firstMismatch(valuesForKey, values);
+    if (index < 0) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldContainExactlyValuesForKey(key, valuesForKey, Lists.immutable.of(values), index));
+  }
+}
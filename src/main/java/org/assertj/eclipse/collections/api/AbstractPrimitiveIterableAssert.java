@@ -26,6 +26,7 @@ import static org.assertj.core.error.ShouldHaveSizeGreaterThanOrEqualTo.shouldHa
 import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
 import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveSizeLessThanOrEqualTo;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.eclipse.collections.util.RichIterableUtil.sizeOf;
 
 import java.lang.reflect.Array;
@@ -43,10 +44,58 @@ import org.eclipse.collections.api.PrimitiveIterable;
  */
 public abstract class AbstractPrimitiveIterableAssert<SELF extends AbstractPrimitiveIterableAssert<SELF, ACTUAL>, ACTUAL extends PrimitiveIterable> extends AbstractAssert<SELF, ACTUAL> {
 
+  private int failureCap = Integer.MAX_VALUE;
+
   protected AbstractPrimitiveIterableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
   }
 
+  /**
+   * Makes {@code allMatch} and {@code allSatisfy} stop scanning the actual PrimitiveIterable at the first element that
+   * fails, reporting only that element. This is equivalent to {@code withFailureCap(1)}.
+   *
+   * @return {@code this} assertion object.
+   */
+  public SELF failFast() {
+    return withFailureCap(1);
+  }
+
+  /**
+   * Makes {@code allMatch} and {@code allSatisfy} stop scanning the actual PrimitiveIterable once the given number of
+   * failing elements has been collected. The error message reports the offenders found so far and states that the scan
+   * was truncated. By default, every element is checked and every offender is reported.
+   *
+   * @param maxFailures the maximum number of failing elements to collect before failing.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code maxFailures} is not strictly positive.
+   */
+  public SELF withFailureCap(int maxFailures) {
+    checkArgument(maxFailures > 0, "The failure cap must be greater than 0 but was <%s>", maxFailures);
+    this.failureCap = maxFailures;
+    return myself;
+  }
+
+  /**
+   * Returns whether the given number of failing elements has reached the cap configured with {@link #withFailureCap(int)}.
+   *
+   * @param failureCount the number of failing elements collected so far.
+   * @return {@code true} if the scan should stop, {@code false} otherwise.
+   */
+  protected boolean isFailureCapReached(int failureCount) {
+    return failureCount >= failureCap;
+  }
+
+  /**
+   * Creates a collector for the failing elements that stops the scan at the cap configured with
+   * {@link #withFailureCap(int)}. Nothing is allocated until the first failure is added.
+   *
+   * @param <T> the type of the collected failures.
+   * @return a new, empty collector.
+   */
+  <T> FailureCollector<T> newFailureCollector() {
+    return new FailureCollector<>(failureCap);
+  }
+
   public SELF hasSameSizeAs(PrimitiveIterable other) {
     return executeAssertion(() -> {
       isNotNull();
@@ -20,12 +20,15 @@ import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch
 import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
 import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
 import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
 import static org.assertj.core.error.ShouldBeAnArray.shouldBeAnArray;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
 import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
+import static org.assertj.core.error.ShouldContainExactlyInAnyOrder.shouldContainExactlyInAnyOrder;
 import static org.assertj.core.error.ShouldContainNull.shouldContainNull;
+import static org.assertj.core.error.ShouldContainOnly.shouldContainOnly;
 import static org.assertj.core.error.ShouldContainOnlyNulls.shouldContainOnlyNulls;
 import static org.assertj.core.error.ShouldHaveSameSizeAs.shouldHaveSameSizeAs;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
@@ -37,12 +40,14 @@ import static org.assertj.core.error.ShouldHaveSizeLessThanOrEqualTo.shouldHaveS
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
 import static org.assertj.core.error.ShouldNotContainNull.shouldNotContainNull;
+import static org.assertj.core.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.eclipse.collections.error.ScanTruncated.scanTruncated;
 import static org.assertj.eclipse.collections.util.RichIterableUtil.sizeOf;
 
 import java.lang.reflect.Array;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -51,14 +56,20 @@ import org.assertj.core.annotation.CheckReturnValue;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.AbstractIterableAssert;
 import org.assertj.core.api.ThrowingConsumer;
+import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.UnsatisfiedRequirement;
+import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.presentation.PredicateDescription;
 import org.eclipse.collections.api.PrimitiveIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * Base class for implementations of Eclipse Collections {@link RichIterable} assertions.
@@ -78,10 +89,89 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
   extends AbstractIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT> {
 //@format:on
 
+  /**
+   * Maximum number of values looked up with a linear scan of the actual RichIterable before building a hashed copy.
+   */
+  private static final int LINEAR_LOOKUP_LIMIT = 8;
+
+  private int failureCap = Integer.MAX_VALUE;
+  private ParallelEvaluator parallelEvaluator;
+
   protected AbstractRichIterableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
   }
 
+  /**
+   * Makes {@code allMatch}, {@code allSatisfy} and {@code doesNotHaveDuplicates} stop scanning the actual RichIterable
+   * at the first element that fails,
+   * reporting only that element. This is equivalent to {@code withFailureCap(1)}.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * // fails reporting only "DS9" and stating that the scan was truncated
+   * assertThat(Lists.immutable.of("TOS", "DS9", "VOY")).failFast().allMatch(s -> s.startsWith("T"));
+   * }</pre>
+   *
+   * @return {@code this} assertion object.
+   */
+  public SELF failFast() {
+    return withFailureCap(1);
+  }
+
+  /**
+   * Makes {@code allMatch}, {@code allSatisfy} and {@code doesNotHaveDuplicates} stop scanning the actual RichIterable
+   * once the given number of failing elements has been collected. The error message reports the offenders found so far and states that the scan was
+   * truncated. By default, every element is checked and every offender is reported.
+   *
+   * @param maxFailures the maximum number of failing elements to collect before failing.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if {@code maxFailures} is not strictly positive.
+   */
+  public SELF withFailureCap(int maxFailures) {
+    checkArgument(maxFailures > 0, "The failure cap must be greater than 0 but was <%s>", maxFailures);
+    this.failureCap = maxFailures;
+    return myself;
+  }
+
+  /**
+   * Makes {@code allMatch}, {@code anyMatch}, {@code noneMatch}, {@code allSatisfy}, {@code anySatisfy} and
+   * {@code filteredOn} evaluate the elements of the actual RichIterable in parallel batches on the common
+   * {@link java.util.concurrent.ForkJoinPool}, a few batches per available processor.
+   * <p>
+   * This pays off for expensive predicates or requirements over large RichIterables. Reported offenders are the same,
+   * and in the same order, as with a sequential evaluation. Elements that are not needed to decide the outcome (after
+   * the first match of {@code anyMatch}, or once the failure cap is reached) are skipped.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * assertThat(records).inParallel().allMatch(Record::hasValidChecksum);
+   * }</pre>
+   *
+   * @return {@code this} assertion object.
+   */
+  public SELF inParallel() {
+    this.parallelEvaluator = ParallelEvaluator.onCommonPool();
+    return myself;
+  }
+
+  /**
+   * Makes {@code allMatch}, {@code anyMatch}, {@code noneMatch}, {@code allSatisfy}, {@code anySatisfy} and
+   * {@code filteredOn} evaluate the elements of the actual RichIterable in parallel batches of the given size on the
+   * given {@link ExecutorService}. See {@link #inParallel()}.
+   *
+   * @param executorService the executor service running the batches.
+   * @param batchSize       the number of elements evaluated by each batch.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException     if the given executor service is {@code null}.
+   * @throws IllegalArgumentException if {@code batchSize} is not strictly positive.
+   */
+  public SELF inParallel(ExecutorService executorService, int batchSize) {
+    requireNonNull(executorService, "The executor service should not be null");
+    checkArgument(batchSize > 0, "The batch size must be greater than 0 but was <%s>", batchSize);
+    this.parallelEvaluator = new ParallelEvaluator(executorService, batchSize);
+    return myself;
+  }
+
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate) {
     return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
@@ -97,12 +187,26 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     requireNonNull(predicate, "The predicate to evaluate should not be null");
     isNotEmpty();
 
-    ImmutableList<? extends ELEMENT> nonMatches = actual.reject(predicate::test).toImmutableList();
+    FailureCollector<ELEMENT> nonMatches = new FailureCollector<>(failureCap);
+    boolean truncated = parallelEvaluator == null
+      ? actual.anySatisfy(element -> {
+        if (nonMatches.isFull()) {
+          return true; // only stop once there is an element left unchecked
+        }
+        if (!predicate.test(element)) {
+          nonMatches.add(element);
+        }
+        return false;
+      })
+      : parallelEvaluator.select(actual, element -> !predicate.test(element), nonMatches);
     if (nonMatches.isEmpty()) {
       return;
     }
 
-    throw assertionError(elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches, predicateDescription));
+    MutableList<ELEMENT> nonMatchesList = nonMatches.toList();
+    ErrorMessageFactory errorMessageFactory = elementsShouldMatch(actual, nonMatchesList.size() == 1 ? nonMatchesList.getFirst() : nonMatchesList,
+      predicateDescription);
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, nonMatches.size()) : errorMessageFactory);
   }
 
   @Override
@@ -120,22 +224,41 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     isNotEmpty();
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    RichIterable<UnsatisfiedRequirement> unsatisfiedRequirements = actual.collect(element -> failsRequirements(requirements, element))
-      .collectIf(Optional::isPresent, Optional::get);
+    // Single pass where passing elements allocate nothing, the failures list is only created on the first failure
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(failureCap);
+    boolean truncated = parallelEvaluator == null
+      ? actual.anySatisfy(element -> {
+        if (unsatisfiedRequirements.isFull()) {
+          return true; // only stop once there is an element left unchecked
+        }
+        UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+        if (unsatisfiedRequirement != null) {
+          unsatisfiedRequirements.add(unsatisfiedRequirement);
+        }
+        return false;
+      })
+      : parallelEvaluator.collectIfNotNull(actual, element -> failsRequirements(requirements, element), unsatisfiedRequirements);
     if (unsatisfiedRequirements.isEmpty()) {
       return;
     }
 
-    throw assertionError(elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info));
+    ErrorMessageFactory errorMessageFactory = elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info);
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, unsatisfiedRequirements.size()) : errorMessageFactory);
   }
 
-  private static <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
+  /**
+   * Checks the given element against the requirements.
+   *
+   * @return the {@link UnsatisfiedRequirement} describing the failure, or {@code null} if the element satisfies the
+   * requirements.
+   */
+  static <E> UnsatisfiedRequirement failsRequirements(Consumer<? super E> requirements, E element) {
     try {
       requirements.accept(element);
     } catch (AssertionError ex) {
-      return Optional.of(new UnsatisfiedRequirement(element, ex));
+      return new UnsatisfiedRequirement(element, ex);
     }
-    return Optional.empty();
+    return null;
   }
 
   @Override
@@ -151,11 +274,47 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
   private void assertAnyMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
     isNotNull();
     requireNonNull(predicate, "The predicate to evaluate should not be null");
-    if (actual.noneSatisfy(predicate::test)) {
+    boolean anyMatch;
+    if (parallelEvaluator == null) {
+      anyMatch = actual.anySatisfy(predicate::test);
+    } else {
+      FailureCollector<ELEMENT> matches = new FailureCollector<>(1);
+      parallelEvaluator.select(actual, predicate, matches);
+      anyMatch = !matches.isEmpty();
+    }
+    if (!anyMatch) {
       throw assertionError(anyElementShouldMatch(actual, predicateDescription));
     }
   }
 
+  @Override
+  public SELF noneMatch(Predicate<? super ELEMENT> predicate) {
+    return executeAssertion(() -> assertNoneMatch(predicate, PredicateDescription.GIVEN));
+  }
+
+  @Override
+  public SELF noneMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return executeAssertion(() -> assertNoneMatch(predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  private void assertNoneMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    isNotNull();
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+
+    // Only the first match (in encounter order) is reported
+    FailureCollector<ELEMENT> matches = new FailureCollector<>(1);
+    if (parallelEvaluator == null) {
+      actual.anySatisfy(element -> predicate.test(element) && matches.add(element));
+    } else {
+      parallelEvaluator.select(actual, predicate, matches);
+    }
+    if (matches.isEmpty()) {
+      return;
+    }
+
+    throw assertionError(noElementsShouldMatch(actual, matches.toList().getFirst(), predicateDescription));
+  }
+
   @Override
   public SELF anySatisfy(Consumer<? super ELEMENT> requirements) {
     return executeAssertion(() -> assertAnySatisfy(requirements));
@@ -170,16 +329,29 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     isNotNull();
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    MutableList<UnsatisfiedRequirement> unsatisfiedRequirements = Lists.mutable.empty();
-    for (ELEMENT element : actual) {
-      Optional<UnsatisfiedRequirement> result = failsRequirements(requirements, element);
-      if (result.isEmpty()) {
-        return; // element satisfied the requirements
+    FailureCollector<UnsatisfiedRequirement> unsatisfiedRequirements = new FailureCollector<>(Integer.MAX_VALUE);
+    if (parallelEvaluator != null) {
+      // Batches stop as soon as one element satisfies the requirements, otherwise every failure is collected in the
+      // same pass
+      if (parallelEvaluator.collectUnlessAnyNull(actual, element -> failsRequirements(requirements, element),
+                                                 unsatisfiedRequirements)) {
+        return;
       }
-      unsatisfiedRequirements.add(result.get());
+      throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements.toList(), info));
     }
 
-    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
+    if (actual.anySatisfy(element -> {
+      UnsatisfiedRequirement unsatisfiedRequirement = failsRequirements(requirements, element);
+      if (unsatisfiedRequirement == null) {
+        return true; // element satisfied the requirements
+      }
+      unsatisfiedRequirements.add(unsatisfiedRequirement);
+      return false;
+    })) {
+      return;
+    }
+
+    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements.toList(), info));
   }
 
   @Override
@@ -192,7 +364,8 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     }
 
     ArrayAdapter<ELEMENT> valuesList = ArrayAdapter.adapt(values);
-    MutableList<ELEMENT> notFound = valuesList.reject(actual::contains);
+    RichIterable<? extends ELEMENT> index = containsIndex(values.length);
+    MutableList<ELEMENT> notFound = valuesList.reject(index::contains);
     if (notFound.isEmpty()) {
       return;
     }
@@ -209,8 +382,8 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
       return;
     }
 
-    ImmutableList<ELEMENT> valuesToSearchFor = Lists.immutable.of(values);
-    if (actual.containsAnyIterable(valuesToSearchFor)) {
+    RichIterable<? extends ELEMENT> index = containsIndex(values.length);
+    if (ArrayAdapter.adapt(values).anySatisfy(index::contains)) {
       return;
     }
 
@@ -223,7 +396,8 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     requireNonNull(values, "The array of values to look for should not be null");
 
     ArrayAdapter<ELEMENT> valuesList = ArrayAdapter.adapt(values);
-    MutableList<ELEMENT> found = valuesList.select(actual::contains);
+    RichIterable<? extends ELEMENT> index = containsIndex(values.length);
+    MutableList<ELEMENT> found = valuesList.select(index::contains);
 
     if (found.isEmpty()) {
       return;
@@ -232,6 +406,105 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     throw assertionError(shouldNotContain(actual, valuesList, found)); // TODO: ComparisonStrategy???
   }
 
+  /**
+   * Returns the {@link RichIterable} to probe when looking up the given number of values in the actual RichIterable.
+   * <p>
+   * Sets and bags already have constant time lookups and are used as is. Other iterables (lists, stacks, lazy
+   * iterables...) have linear lookups, so when there are more than a handful of values to look up they are copied once
+   * into a hashed set, turning the O(n*m) scan into O(n+m).
+   *
+   * @param numberOfLookups the number of values that are going to be looked up.
+   * @return the actual RichIterable or a hashed copy of it.
+   */
+  private RichIterable<? extends ELEMENT> containsIndex(int numberOfLookups) {
+    if (numberOfLookups <= LINEAR_LOOKUP_LIMIT || actual instanceof SetIterable<?> || actual instanceof Bag<?>) {
+      return actual;
+    }
+    return actual.toSet();
+  }
+
+  /**
+   * Returns whether the elements are compared with {@code equals}, in which case the hashed implementations apply. When
+   * an element comparator has been configured (e.g. with {@code usingElementComparator}), the elements have to be
+   * compared with it and the AssertJ implementations are used instead.
+   *
+   * @return {@code true} if no element comparator has been configured, {@code false} otherwise.
+   */
+  boolean usesStandardElementComparison() {
+    return iterables.getComparisonStrategy() == StandardComparisonStrategy.instance();
+  }
+
+  @Override
+  protected SELF containsExactlyInAnyOrderForProxy(ELEMENT[] values) {
+    if (!usesStandardElementComparison()) {
+      return super.containsExactlyInAnyOrderForProxy(values);
+    }
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      ArrayAdapter<ELEMENT> valuesList = ArrayAdapter.adapt(values);
+      ElementsDiff<ELEMENT> diff = ElementsDiff.diff(actual, valuesList);
+      if (diff.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldContainExactlyInAnyOrder(actual, valuesList, diff.notFound(), diff.notExpected(),
+        StandardComparisonStrategy.instance()));
+    });
+  }
+
+  @Override
+  protected SELF containsOnlyForProxy(ELEMENT[] values) {
+    if (!usesStandardElementComparison()) {
+      return super.containsOnlyForProxy(values);
+    }
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+      assertContainsOnly(ArrayAdapter.adapt(values), values);
+    });
+  }
+
+  @Override
+  public SELF hasSameElementsAs(Iterable<? extends ELEMENT> iterable) {
+    if (!usesStandardElementComparison()) {
+      return super.hasSameElementsAs(iterable);
+    }
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(iterable, "The iterable to look for should not be null");
+
+      if (iterable instanceof RichIterable<? extends ELEMENT> richIterable) {
+        assertContainsOnly(richIterable, iterable);
+      } else {
+        assertContainsOnly(Lists.mutable.withAll(iterable), iterable);
+      }
+    });
+  }
+
+  /**
+   * Verifies that the actual RichIterable contains the given values and nothing else.
+   *
+   * @param values   the values to look for.
+   * @param expected the values as given by the caller, reported in the error message like AssertJ does.
+   */
+  private void assertContainsOnly(RichIterable<? extends ELEMENT> values, Object expected) {
+    if (actual.isEmpty() && values.isEmpty()) {
+      return;
+    }
+
+    RichIterable<? extends ELEMENT> actualIndex = containsIndex(values.size());
+    RichIterable<? extends ELEMENT> valuesIndex = values.size() <= LINEAR_LOOKUP_LIMIT ? values : values.toSet();
+    RichIterable<? extends ELEMENT> notFound = values.reject(actualIndex::contains);
+    RichIterable<? extends ELEMENT> notExpected = actual.reject(valuesIndex::contains);
+    if (notFound.isEmpty() && notExpected.isEmpty()) {
+      return;
+    }
+
+    throw assertionError(shouldContainOnly(actual, expected, notFound, notExpected));
+  }
+
   @Override
   public SELF containsNull() {
     return executeAssertion(() -> {
@@ -276,6 +549,86 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
     });
   }
 
+  /**
+   * Verifies that the actual RichIterable does not contain duplicate elements.
+   * <p>
+   * Sets pass without scanning and bags are checked by comparing their distinct size to their size. Other iterables
+   * are scanned once, recording the elements seen in a hashed set. Combined with {@link #failFast()}, the scan stops at
+   * the first duplicate.
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual RichIterable is {@code null}.
+   * @throws AssertionError if the actual RichIterable contains duplicate elements.
+   */
+  @Override
+  public SELF doesNotHaveDuplicates() {
+    return executeAssertion(() -> {
+      isNotNull();
+
+      if (actual instanceof SetIterable<?>) {
+        return;
+      }
+
+      if (actual instanceof Bag<?> bag) {
+        if (bag.sizeDistinct() == bag.size()) {
+          return;
+        }
+        throw assertionError(shouldNotHaveDuplicates(actual, bag.selectByOccurrences(occurrences -> occurrences > 1).toSet()));
+      }
+
+      assertDoesNotHaveDuplicatesBy(element -> element);
+    });
+  }
+
+  /**
+   * Verifies that no two elements of the actual RichIterable have the same key, as extracted by the given function.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * // assertion will pass
+   * assertThat(Lists.immutable.of("TOS", "DS9", "VOY")).doesNotHaveDuplicatesBy(String::length);
+   *
+   * // assertion will fail, "TOS" and "TNG" have the same length
+   * assertThat(Lists.immutable.of("TOS", "TNG")).doesNotHaveDuplicatesBy(String::length);
+   * }</pre>
+   *
+   * @param keyExtractor the function extracting the key that must be unique.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given function is {@code null}.
+   * @throws AssertionError if the actual RichIterable is {@code null}.
+   * @throws AssertionError if two elements of the actual RichIterable have the same key.
+   */
+  public SELF doesNotHaveDuplicatesBy(Function<? super ELEMENT, ?> keyExtractor) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(keyExtractor, "The key extractor should not be null");
+      assertDoesNotHaveDuplicatesBy(keyExtractor);
+    });
+  }
+
+  private void assertDoesNotHaveDuplicatesBy(Function<? super ELEMENT, ?> keyExtractor) {
+    MutableSet<Object> seenKeys = Sets.mutable.empty();
+    MutableSet<Object> duplicateKeys = Sets.mutable.empty();
+    FailureCollector<ELEMENT> duplicates = new FailureCollector<>(failureCap);
+    boolean truncated = actual.anySatisfy(element -> {
+      if (duplicates.isFull()) {
+        return true; // only stop once there is an element left unchecked
+      }
+      Object key = keyExtractor.apply(element);
+      // Each duplicated key is only reported once, no matter how many times it appears
+      if (!seenKeys.add(key) && duplicateKeys.add(key)) {
+        duplicates.add(element);
+      }
+      return false;
+    });
+    if (duplicates.isEmpty()) {
+      return;
+    }
+
+    ErrorMessageFactory errorMessageFactory = shouldNotHaveDuplicates(actual, duplicates.toList());
+    throw assertionError(truncated ? scanTruncated(errorMessageFactory, duplicates.size()) : errorMessageFactory);
+  }
+
   @Override
   @CheckReturnValue
   public <T> SELF filteredOn(Function<? super ELEMENT, T> function, T expectedValue) {
@@ -642,6 +995,12 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
 
   /**
    * Helper method that filters via Eclipse Collections to avoid creating any JCL collections.
+   * <p>
+   * The filter is applied through a memoised lazy view of the actual RichIterable, so nothing is copied here and the
+   * predicate is evaluated at most once per element, however many assertions are chained on the result.
+   * {@link #newAbstractIterableAssert(Iterable)} materialises the view only when the assertion type needs a concrete
+   * collection (list, set, bag or stack). In parallel mode the matching elements are selected eagerly, in encounter
+   * order.
    *
    * @param predicate The predicate to filter on.
    * @return A new {@link AbstractRichIterableAssert} with the filtered values.
@@ -649,7 +1008,30 @@ public abstract class AbstractRichIterableAssert<SELF extends AbstractRichIterab
   private SELF internalFilteredOn(org.eclipse.collections.api.block.predicate.Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
     // TODO: In AbstractIterableAssert the withAssertionState method is package-private. Need to find out how to handle
-    //  this method or if we need to use it
-    return newAbstractIterableAssert(actual.select(predicate));//.withAssertionState(myself);
+    //  this method or if we need to use it, i.e. chain .withAssertionState(myself) below
+    return newAbstractIterableAssert(filterActual(predicate))
+      .withFailureCap(failureCap)
+      .withParallelEvaluator(parallelEvaluator);
+  }
+
+  /**
+   * Makes this assertion evaluate its elements with the given {@link ParallelEvaluator}, or sequentially if it is
+   * {@code null}.
+   *
+   * @param parallelEvaluator the evaluator to use, may be {@code null}.
+   * @return {@code this} assertion object.
+   */
+  SELF withParallelEvaluator(ParallelEvaluator parallelEvaluator) {
+    this.parallelEvaluator = parallelEvaluator;
+    return myself;
+  }
+
+  private RichIterable<? extends ELEMENT> filterActual(org.eclipse.collections.api.block.predicate.Predicate<? super ELEMENT> predicate) {
+    if (parallelEvaluator == null) {
+      return LazyIterate.adapt(new MemoizingIterable<>(actual.asLazy().select(predicate)));
+    }
+    FailureCollector<ELEMENT> selected = new FailureCollector<>(Integer.MAX_VALUE);
+    parallelEvaluator.select(actual, predicate::accept, selected);
+    return selected.toList();
   }
 }
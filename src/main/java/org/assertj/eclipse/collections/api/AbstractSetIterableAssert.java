@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldBeSubsetOf.shouldBeSubsetOf;
+import static org.assertj.eclipse.collections.error.ShouldBeDisjointFrom.shouldBeDisjointFrom;
+import static org.assertj.eclipse.collections.error.ShouldBeProperSubsetOf.shouldBeProperSubsetOf;
+import static org.assertj.eclipse.collections.error.ShouldBeSupersetOf.shouldBeSupersetOf;
+import static org.assertj.eclipse.collections.error.ShouldIntersect.shouldIntersect;
+
+import org.assertj.core.api.AbstractAssert;
+import org.eclipse.collections.api.set.SetIterable;
+
+/**
+ * Base class for the assertions on the {@link SetIterable} implementations.
+ */
+//@format:off
+public abstract class AbstractSetIterableAssert<SELF extends AbstractSetIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT>,
+  ACTUAL extends SetIterable<? extends ELEMENT>,
+  ELEMENT,
+  ELEMENT_ASSERT extends AbstractAssert<? extends ELEMENT_ASSERT, ELEMENT>>
+  extends AbstractRichIterableAssert<SELF, ACTUAL, ELEMENT, ELEMENT_ASSERT> {
+//@format:on
+
+  protected AbstractSetIterableAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that every element of the actual SetIterable is contained in the given set. Runs in O(n) hash lookups,
+   * and only the elements of actual missing from the given set are reported.
+   *
+   * @param other the set the actual SetIterable should be a subset of.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given set is {@code null}.
+   * @throws AssertionError if the actual SetIterable is {@code null} or is not a subset of the given set.
+   */
+  public SELF isSubsetOf(SetIterable<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The set to compare to should not be null");
+
+      SetIterable<ELEMENT> actualSet = widen(actual);
+      if (actualSet.isSubsetOf(other)) {
+        return;
+      }
+
+      throw assertionError(shouldBeSubsetOf(actual, other, actualSet.difference(other)));
+    });
+  }
+
+  /**
+   * Verifies that every element of the actual SetIterable is contained in the given set, and that the given set
+   * contains at least one element that the actual SetIterable does not.
+   *
+   * @param other the set the actual SetIterable should be a proper subset of.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given set is {@code null}.
+   * @throws AssertionError if the actual SetIterable is {@code null} or is not a proper subset of the given set.
+   */
+  public SELF isProperSubsetOf(SetIterable<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The set to compare to should not be null");
+
+      SetIterable<ELEMENT> actualSet = widen(actual);
+      if (actualSet.isProperSubsetOf(other)) {
+        return;
+      }
+
+      SetIterable<ELEMENT> unexpected = actualSet.difference(other);
+      if (unexpected.isEmpty()) {
+        throw assertionError(shouldBeProperSubsetOf(actual, other));
+      }
+      throw assertionError(shouldBeProperSubsetOf(actual, other, unexpected));
+    });
+  }
+
+  /**
+   * Verifies that the actual SetIterable contains every element of the given set. Runs in O(m) hash lookups, and only
+   * the elements of the given set missing from actual are reported.
+   *
+   * @param other the set the actual SetIterable should be a superset of.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given set is {@code null}.
+   * @throws AssertionError if the actual SetIterable is {@code null} or is not a superset of the given set.
+   */
+  public SELF isSupersetOf(SetIterable<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The set to compare to should not be null");
+
+      SetIterable<ELEMENT> otherSet = widen(other);
+      if (otherSet.isSubsetOf(actual)) {
+        return;
+      }
+
+      throw assertionError(shouldBeSupersetOf(actual, other, otherSet.difference(actual)));
+    });
+  }
+
+  /**
+   * Verifies that the actual SetIterable and the given set have no element in common. The smaller of the two sets is
+   * probed against the other one, and only the common elements are reported.
+   *
+   * @param other the set the actual SetIterable should have no element in common with.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given set is {@code null}.
+   * @throws AssertionError if the actual SetIterable is {@code null} or has elements in common with the given set.
+   */
+  public SELF isDisjointFrom(SetIterable<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The set to compare to should not be null");
+
+      SetIterable<ELEMENT> actualSet = widen(actual);
+      SetIterable<ELEMENT> otherSet = widen(other);
+      SetIterable<ELEMENT> common = actualSet.size() <= otherSet.size() ? actualSet.intersect(otherSet) : otherSet.intersect(actualSet);
+      if (common.isEmpty()) {
+        return;
+      }
+
+      throw assertionError(shouldBeDisjointFrom(actual, other, common));
+    });
+  }
+
+  /**
+   * Verifies that the actual SetIterable and the given set have at least one element in common. The smaller of the two
+   * sets is probed against the other one and the check stops at the first common element.
+   *
+   * @param other the set the actual SetIterable should have at least one element in common with.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given set is {@code null}.
+   * @throws AssertionError if the actual SetIterable is {@code null} or has no element in common with the given set.
+   */
+  public SELF intersects(SetIterable<? extends ELEMENT> other) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(other, "The set to compare to should not be null");
+
+      boolean intersects = actual.size() <= other.size() ? actual.anySatisfy(other::contains) : other.anySatisfy(actual::contains);
+      if (intersects) {
+        return;
+      }
+
+      throw assertionError(shouldIntersect(actual, other));
+    });
+  }
+
+  /**
+   * Views a set of a subtype as a set of its supertype. The sets are only read, so this is safe.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> SetIterable<T> widen(SetIterable<? extends T> set) {
+    return (SetIterable<T>) set;
+  }
+}
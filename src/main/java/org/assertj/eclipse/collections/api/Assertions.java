@@ -22,13 +22,28 @@ import org.eclipse.collections.api.CharIterable;
 import org.eclipse.collections.api.DoubleIterable;
 import org.eclipse.collections.api.FloatIterable;
 import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LongIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.ShortIterable;
 import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
 import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.BagMultimap;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.set.SetMultimap;
+import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
 import org.eclipse.collections.api.stack.StackIterable;
 
 /**
@@ -55,6 +70,19 @@ public class Assertions {
     return new BagAssert<>(actual);
   }
 
+  /**
+   * Creates a new instance of {@link BagMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the BagMultimap
+   * @param <VALUE> The type of values in the BagMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> BagMultimapAssert<KEY, VALUE> assertThat(BagMultimap<KEY, VALUE> actual) {
+    return new BagMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link BooleanIterableAssert}.
    *
@@ -66,6 +94,17 @@ public class Assertions {
     return new BooleanIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link BooleanListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static BooleanListAssert assertThat(BooleanList actual) {
+    return new BooleanListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link ByteIterableAssert}.
    *
@@ -77,6 +116,17 @@ public class Assertions {
     return new ByteIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ByteListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static ByteListAssert assertThat(ByteList actual) {
+    return new ByteListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link CharIterableAssert}.
    *
@@ -88,6 +138,17 @@ public class Assertions {
     return new CharIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link CharListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static CharListAssert assertThat(CharList actual) {
+    return new CharListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link DoubleIterableAssert}.
    *
@@ -99,6 +160,17 @@ public class Assertions {
     return new DoubleIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link DoubleListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static DoubleListAssert assertThat(DoubleList actual) {
+    return new DoubleListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link FloatIterableAssert}.
    *
@@ -110,6 +182,17 @@ public class Assertions {
     return new FloatIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link FloatListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static FloatListAssert assertThat(FloatList actual) {
+    return new FloatListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link IntIterableAssert}.
    *
@@ -121,6 +204,29 @@ public class Assertions {
     return new IntIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link IntListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static IntListAssert assertThat(IntList actual) {
+    return new IntListAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link LazyIterableAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the LazyIterable
+   */
+  @CheckReturnValue
+  public static <T> LazyIterableAssert<T> assertThat(LazyIterable<? extends T> actual) {
+    return new LazyIterableAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link ListIterableAssert}.
    *
@@ -133,6 +239,19 @@ public class Assertions {
     return new ListIterableAssert<>(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ListMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the ListMultimap
+   * @param <VALUE> The type of values in the ListMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> ListMultimapAssert<KEY, VALUE> assertThat(ListMultimap<KEY, VALUE> actual) {
+    return new ListMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link LongIterableAssert}.
    *
@@ -144,6 +263,17 @@ public class Assertions {
     return new LongIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link LongListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static LongListAssert assertThat(LongList actual) {
+    return new LongListAssert(actual);
+  }
+
   /**
    * Creates a new instance of {@link MultimapAssert}.
    *
@@ -181,6 +311,19 @@ public class Assertions {
     return new SetIterableAssert<>(actual);
   }
 
+  /**
+   * Creates a new instance of {@link SetMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the SetMultimap
+   * @param <VALUE> The type of values in the SetMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> SetMultimapAssert<KEY, VALUE> assertThat(SetMultimap<KEY, VALUE> actual) {
+    return new SetMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link ShortIterableAssert}.
    *
@@ -192,6 +335,54 @@ public class Assertions {
     return new ShortIterableAssert(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ShortListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static ShortListAssert assertThat(ShortList actual) {
+    return new ShortListAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedBagAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the sorted bag
+   */
+  @CheckReturnValue
+  public static <T> SortedBagAssert<T> assertThat(SortedBag<? extends T> actual) {
+    return new SortedBagAssert<>(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedSetIterableAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the sorted set
+   */
+  @CheckReturnValue
+  public static <T> SortedSetIterableAssert<T> assertThat(SortedSetIterable<? extends T> actual) {
+    return new SortedSetIterableAssert<>(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedSetMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the SortedSetMultimap
+   * @param <VALUE> The type of values in the SortedSetMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> SortedSetMultimapAssert<KEY, VALUE> assertThat(SortedSetMultimap<KEY, VALUE> actual) {
+    return new SortedSetMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link StackIterableAssert}.
    *
@@ -22,13 +22,28 @@ import org.eclipse.collections.api.CharIterable;
 import org.eclipse.collections.api.DoubleIterable;
 import org.eclipse.collections.api.FloatIterable;
 import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LongIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.ShortIterable;
 import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
 import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.BagMultimap;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.set.SetMultimap;
+import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
 import org.eclipse.collections.api.stack.StackIterable;
 
 /**
@@ -55,6 +70,19 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link BagMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the BagMultimap
+   * @param <VALUE> The type of values in the BagMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> BagMultimapAssert<KEY, VALUE> then(BagMultimap<KEY, VALUE> actual) {
+    return new BagMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link BooleanIterableAssert}.
    *
@@ -66,6 +94,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link BooleanListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static BooleanListAssert then(BooleanList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link ByteIterableAssert}.
    *
@@ -77,6 +116,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ByteListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static ByteListAssert then(ByteList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link CharIterableAssert}.
    *
@@ -88,6 +138,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link CharListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static CharListAssert then(CharList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link DoubleIterableAssert}.
    *
@@ -99,6 +160,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link DoubleListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static DoubleListAssert then(DoubleList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link FloatIterableAssert}.
    *
@@ -110,6 +182,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link FloatListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static FloatListAssert then(FloatList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link IntIterableAssert}.
    *
@@ -121,6 +204,29 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link IntListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static IntListAssert then(IntList actual) {
+    return assertThat(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link LazyIterableAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the LazyIterable
+   */
+  @CheckReturnValue
+  public static <T> LazyIterableAssert<T> then(LazyIterable<? extends T> actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link ListIterableAssert}.
    *
@@ -133,6 +239,19 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ListMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the ListMultimap
+   * @param <VALUE> The type of values in the ListMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> ListMultimapAssert<KEY, VALUE> then(ListMultimap<KEY, VALUE> actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link LongIterableAssert}.
    *
@@ -144,6 +263,17 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link LongListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static LongListAssert then(LongList actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link MultimapAssert}.
    *
@@ -181,6 +311,19 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link SetMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the SetMultimap
+   * @param <VALUE> The type of values in the SetMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> SetMultimapAssert<KEY, VALUE> then(SetMultimap<KEY, VALUE> actual) {
+    return new SetMultimapAssert<>(actual);
+  }
+
   /**
    * Creates a new instance of {@link ShortIterableAssert}.
    *
@@ -192,6 +335,54 @@ public class BDDAssertions extends Assertions {
     return assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of {@link ShortListAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @CheckReturnValue
+  public static ShortListAssert then(ShortList actual) {
+    return assertThat(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedBagAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the sorted bag
+   */
+  @CheckReturnValue
+  public static <T> SortedBagAssert<T> then(SortedBag<? extends T> actual) {
+    return assertThat(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedSetIterableAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <T> The type of the elements in the sorted set
+   */
+  @CheckReturnValue
+  public static <T> SortedSetIterableAssert<T> then(SortedSetIterable<? extends T> actual) {
+    return assertThat(actual);
+  }
+
+  /**
+   * Creates a new instance of {@link SortedSetMultimapAssert}.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   * @param <KEY> The type of keys in the SortedSetMultimap
+   * @param <VALUE> The type of values in the SortedSetMultimap
+   */
+  @CheckReturnValue
+  public static <KEY, VALUE> SortedSetMultimapAssert<KEY, VALUE> then(SortedSetMultimap<KEY, VALUE> actual) {
+    return assertThat(actual);
+  }
+
   /**
    * Creates a new instance of {@link StackIterableAssert}.
    *
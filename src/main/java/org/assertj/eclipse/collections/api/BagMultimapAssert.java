@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
+import org.eclipse.collections.api.multimap.bag.BagMultimap;
+
+/**
+ * Assertion methods for the {@link BagMultimap} interface. On top of the {@link AbstractMultimapAssert} assertions, the
+ * values of a key can be navigated to with their bag assertions.
+ *
+ * @param <KEY>   the type of the keys in the {@link BagMultimap}.
+ * @param <VALUE> the type of the values in the {@link BagMultimap}.
+ */
+public class BagMultimapAssert<KEY, VALUE> extends AbstractMultimapAssert<BagMultimapAssert<KEY, VALUE>, BagMultimap<KEY, VALUE>, KEY, VALUE> {
+  /**
+   * Creates a new {@link BagMultimapAssert}.
+   *
+   * @param actual The actual BagMultimap to assert against
+   */
+  public BagMultimapAssert(BagMultimap<KEY, VALUE> actual) {
+    super(actual, BagMultimapAssert.class);
+  }
+
+  /**
+   * Navigates to the values associated with the given key in the actual {@link BagMultimap}. The returned assertion is
+   * a {@link SortedBagAssert} when the values are sorted, and a {@link BagAssert} otherwise.
+   *
+   * @param key the key whose values to navigate to.
+   * @return a new assertion object on the values of the given key.
+   * @throws AssertionError if the actual {@link BagMultimap} is {@code null}.
+   */
+  @Override
+  public AbstractBagAssert<?, ?, VALUE, ?> valuesForKey(KEY key) {
+    this.isNotNull();
+    Bag<VALUE> values = this.actual.get(key);
+    AbstractBagAssert<?, ?, VALUE, ?> valuesAssert = values instanceof SortedBag<VALUE> sortedBag
+      ? new SortedBagAssert<>(sortedBag)
+      : new BagAssert<>(values);
+    return valuesAssert.as(valuesForKeyDescription(key));
+  }
+}
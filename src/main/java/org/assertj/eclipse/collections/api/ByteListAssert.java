@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldContainSequence.shouldContainSequence;
+import static org.assertj.eclipse.collections.error.ShouldHaveElementsInOrder.shouldContainExactlyInOrder;
+import static org.assertj.eclipse.collections.error.ShouldHaveElementsInOrder.shouldEndWith;
+import static org.assertj.eclipse.collections.error.ShouldHaveElementsInOrder.shouldStartWith;
+
+import java.util.Arrays;
+
+import org.eclipse.collections.api.list.primitive.ByteList;
+
+/**
+ * Assertion methods for the {@link ByteList} interface. On top of the {@link AbstractByteIterableAssert}
+ * assertions, verifies the order of the elements by reading them by index, so that the list is never copied as a whole.
+ * Failures report the first index where the elements differ, along with the elements around it.
+ */
+public class ByteListAssert extends AbstractByteIterableAssert<ByteListAssert, ByteList> {
+  public ByteListAssert(ByteList actual) {
+    super(actual, ByteListAssert.class);
+  }
+
+  public ByteListAssert containsExactly(byte... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      // Compare in place, only the elements around the first mismatch are copied for the error message
+      int size = actual.size();
+      int length = Math.min(size, values.length);
+      int index = 0;
+      while (index < length && actual.get(index) == values[index]) {
+        index++;
+      }
+      if (index == size && index == values.length) {
+        return;
+      }
+      throw assertionError(shouldContainExactlyInOrder(size, values.length, index,
+        PrimitiveWindows.from(index), PrimitiveWindows.around(actual, index), PrimitiveWindows.around(values, index)));
+    });
+  }
+
+  public ByteListAssert containsSequence(byte... sequence) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(sequence, "The array of values to look for should not be null");
+
+      for (int start = 0; start <= actual.size() - sequence.length; start++) {
+        if (containsSequenceAt(start, sequence)) {
+          return;
+        }
+      }
+      throw assertionError(shouldContainSequence(actual, sequence));
+    });
+  }
+
+  private boolean containsSequenceAt(int start, byte[] sequence) {
+    for (int i = 0; i < sequence.length; i++) {
+      if (actual.get(start + i) != sequence[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public ByteListAssert endsWith(byte... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      // Only copy the tail that is compared, the rest of the list is never read
+      int size = actual.size();
+      int length = Math.min(size, values.length);
+      byte[] tail = new byte[length];
+      for (int i = 0; i < length; i++) {
+        tail[i] = actual.get(size - length + i);
+      }
+      byte[] expectedTail = Arrays.copyOfRange(values, values.length - length, values.length);
+      int index = Arrays.mismatch(tail, expectedTail);
+      if (index < 0 && length == values.length) {
+        return;
+      }
+
+      // Report the mismatch in the coordinates of the actual list
+      int tailIndex = index < 0 ? 0 : index;
+      int actualIndex = size - length + tailIndex;
+      throw assertionError(shouldEndWith(size, values.length, actualIndex, PrimitiveWindows.from(tailIndex) + size - length,
+        PrimitiveWindows.around(tail, tailIndex), PrimitiveWindows.around(expectedTail, tailIndex)));
+    });
+  }
+
+  public ByteListAssert startsWith(byte... values) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(values, "The array of values to look for should not be null");
+
+      // Only copy the head that is compared, the rest of the list is never read
+      int size = actual.size();
+      int length = Math.min(size, values.length);
+      byte[] head = new byte[length];
+      for (int i = 0; i < length; i++) {
+        head[i] = actual.get(i);
+      }
+      int index = Arrays.mismatch(head, 0, length, values, 0, length);
+      if (index < 0) {
+        if (length == values.length) {
+          return;
+        }
+        index = length;
+      }
+      throw assertionError(shouldStartWith(size, values.length, index, PrimitiveWindows.from(index),
+        PrimitiveWindows.around(head, index), PrimitiveWindows.around(values, index)));
+    });
+  }
+}
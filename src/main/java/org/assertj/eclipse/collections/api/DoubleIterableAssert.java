@@ -15,157 +15,10 @@
  */
 package org.assertj.eclipse.collections.api;
 
-import static java.util.Objects.requireNonNull;
-import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
-import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
-import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
-import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
-import static org.assertj.core.error.ShouldContain.shouldContain;
-import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
-import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
-
-import java.util.Optional;
-import java.util.function.DoubleConsumer;
-import java.util.function.DoublePredicate;
-
-import org.assertj.core.error.UnsatisfiedRequirement;
-import org.assertj.core.presentation.PredicateDescription;
 import org.eclipse.collections.api.DoubleIterable;
-import org.eclipse.collections.api.RichIterable;
-import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.primitive.DoubleLists;
-import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.list.primitive.DoubleList;
-import org.eclipse.collections.api.list.primitive.ImmutableDoubleList;
 
-public class DoubleIterableAssert extends AbstractPrimitiveIterableAssert<DoubleIterableAssert, DoubleIterable> {
+public class DoubleIterableAssert extends AbstractDoubleIterableAssert<DoubleIterableAssert, DoubleIterable> {
   public DoubleIterableAssert(DoubleIterable actual) {
     super(actual, DoubleIterableAssert.class);
   }
-
-  public DoubleIterableAssert allMatch(DoublePredicate predicate) {
-    return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
-  }
-
-  public DoubleIterableAssert allMatch(DoublePredicate predicate, String predicateDescription) {
-    return executeAssertion(() -> assertAllMatch(predicate, new PredicateDescription(predicateDescription)));
-  }
-
-  private void assertAllMatch(DoublePredicate predicate, PredicateDescription predicateDescription) {
-    isNotNull();
-    requireNonNull(predicate, "The predicate to evaluate should not be null");
-    isNotEmpty();
-
-    DoubleList nonMatches = actual.reject(predicate::test).toList();
-    if (nonMatches.isEmpty()) {
-      return;
-    }
-
-    throw assertionError(elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches, predicateDescription));
-  }
-
-  public DoubleIterableAssert allSatisfy(DoubleConsumer requirements) {
-    return executeAssertion(() -> {
-      isNotNull();
-      isNotEmpty();
-      requireNonNull(requirements, "The DoubleConsumer expressing the assertions requirements must not be null");
-
-      RichIterable<UnsatisfiedRequirement> unsatisfiedRequirements = actual.collect(element -> failsRequirements(requirements, element))
-        .collectIf(Optional::isPresent, Optional::get);
-      if (unsatisfiedRequirements.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info));
-    });
-  }
-
-  private static Optional<UnsatisfiedRequirement> failsRequirements(DoubleConsumer requirements, double element) {
-    try {
-      requirements.accept(element);
-    } catch (AssertionError ex) {
-      return Optional.of(new UnsatisfiedRequirement(element, ex));
-    }
-    return Optional.empty();
-  }
-
-  public DoubleIterableAssert anyMatch(DoublePredicate predicate) {
-    return executeAssertion(() -> assertAnyMatch(predicate, PredicateDescription.GIVEN));
-  }
-
-  public DoubleIterableAssert anyMatch(DoublePredicate predicate, String predicateDescription) {
-    return executeAssertion(() -> assertAnyMatch(predicate, new PredicateDescription(predicateDescription)));
-  }
-
-  private void assertAnyMatch(DoublePredicate predicate, PredicateDescription predicateDescription) {
-    isNotNull();
-    requireNonNull(predicate, "The predicate to evaluate should not be null");
-    if (actual.noneSatisfy(predicate::test)) {
-      throw assertionError(anyElementShouldMatch(actual, predicateDescription));
-    }
-  }
-
-  public DoubleIterableAssert anySatisfy(DoubleConsumer requirements) {
-    return executeAssertion(() -> assertAnySatisfy(requirements));
-  }
-
-  private void assertAnySatisfy(DoubleConsumer requirements) {
-    isNotNull();
-    requireNonNull(requirements, "The DoubleConsumer expressing the assertions requirements must not be null");
-
-    MutableList<UnsatisfiedRequirement> unsatisfiedRequirements = Lists.mutable.empty();
-    if (actual.anySatisfy(element -> {
-      Optional<UnsatisfiedRequirement> result = failsRequirements(requirements, element);
-      result.ifPresent(unsatisfiedRequirements::add);
-      return result.isEmpty();
-    })) {
-      return;
-    }
-
-    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
-  }
-
-  public DoubleIterableAssert contains(double... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-
-      DoubleIterable notFound = DoubleLists.immutable.of(values).reject(actual::contains);
-
-      if (notFound.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(shouldContain(actual, values, notFound));
-    });
-  }
-
-  public DoubleIterableAssert containsAnyOf(double... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-      requireNonNull(values, "The array of values to look for should not be null");
-
-      if (actual.isEmpty() && values.length == 0) {
-        return;
-      }
-
-      if (actual.containsAny(values)) {
-        return;
-      }
-
-      throw assertionError(shouldContainAnyOf(actual, values));
-    });
-  }
-
-  public DoubleIterableAssert doesNotContain(double... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-
-      ImmutableDoubleList found = DoubleLists.immutable.of(values).select(actual::contains);
-      if (found.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(shouldNotContain(actual, values, found));
-    });
-  }
 }
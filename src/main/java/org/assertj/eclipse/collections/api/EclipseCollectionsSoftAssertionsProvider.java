@@ -23,13 +23,28 @@ import org.eclipse.collections.api.CharIterable;
 import org.eclipse.collections.api.DoubleIterable;
 import org.eclipse.collections.api.FloatIterable;
 import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.LongIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.ShortIterable;
 import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
 import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.BagMultimap;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.set.SetMultimap;
+import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
 import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
 import org.eclipse.collections.api.stack.StackIterable;
 
 /**
@@ -49,6 +64,19 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Creates a new instance of a {@link BagMultimapAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <KEY> The type of keys in the actual BagMultimap
+   * @param <VALUE> The type of values in the actual BagMultimap
+   */
+  @CheckReturnValue
+  default <KEY, VALUE> BagMultimapAssert<KEY, VALUE> assertThat(BagMultimap<KEY, VALUE> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link BooleanIterableAssert}
    *
@@ -60,6 +88,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link BooleanListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default BooleanListAssert assertThat(BooleanList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link ByteIterableAssert}
    *
@@ -71,6 +110,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link ByteListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default ByteListAssert assertThat(ByteList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link CharIterableAssert}
    *
@@ -82,6 +132,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link CharListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default CharListAssert assertThat(CharList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link DoubleIterableAssert}
    *
@@ -93,6 +154,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link DoubleListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default DoubleListAssert assertThat(DoubleList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link FloatIterableAssert}
    *
@@ -104,6 +176,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link FloatListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default FloatListAssert assertThat(FloatList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Create a new instance of a {@link IntIterableAssert}
    *
@@ -115,6 +198,29 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link IntListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default IntListAssert assertThat(IntList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new instance of a {@link LazyIterableAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <T> The type of the elements in the LazyIterable
+   */
+  @CheckReturnValue
+  default <T> LazyIterableAssert<T> assertThat(LazyIterable<T> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Creates a new instance of a {@link ListIterableAssert}
    *
@@ -127,6 +233,19 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Creates a new instance of a {@link ListMultimapAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <KEY> The type of keys in the actual ListMultimap
+   * @param <VALUE> The type of values in the actual ListMultimap
+   */
+  @CheckReturnValue
+  default <KEY, VALUE> ListMultimapAssert<KEY, VALUE> assertThat(ListMultimap<KEY, VALUE> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Creates a new instance of a {@link LongIterableAssert}
    *
@@ -138,6 +257,17 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link LongListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default LongListAssert assertThat(LongList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Creates a new instance of a {@link MultimapAssert}
    *
@@ -175,6 +305,19 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Creates a new instance of a {@link SetMultimapAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <KEY> The type of keys in the actual SetMultimap
+   * @param <VALUE> The type of values in the actual SetMultimap
+   */
+  @CheckReturnValue
+  default <KEY, VALUE> SetMultimapAssert<KEY, VALUE> assertThat(SetMultimap<KEY, VALUE> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Creates a new instance of a {@link ShortIterableAssert}
    *
@@ -186,6 +329,54 @@ public interface EclipseCollectionsSoftAssertionsProvider extends SoftAssertions
     return soft(Assertions.assertThat(actual));
   }
 
+  /**
+   * Create a new instance of a {@link ShortListAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   */
+  @CheckReturnValue
+  default ShortListAssert assertThat(ShortList actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new instance of a {@link SortedBagAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <T> The type of the elements in the sorted bag
+   */
+  @CheckReturnValue
+  default <T> SortedBagAssert<T> assertThat(SortedBag<T> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new instance of a {@link SortedSetIterableAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <T> The type of the elements in the sorted set
+   */
+  @CheckReturnValue
+  default <T> SortedSetIterableAssert<T> assertThat(SortedSetIterable<T> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
+  /**
+   * Creates a new instance of a {@link SortedSetMultimapAssert}
+   *
+   * @param actual the actual value
+   * @return the created assertion object
+   * @param <KEY> The type of keys in the actual SortedSetMultimap
+   * @param <VALUE> The type of values in the actual SortedSetMultimap
+   */
+  @CheckReturnValue
+  default <KEY, VALUE> SortedSetMultimapAssert<KEY, VALUE> assertThat(SortedSetMultimap<KEY, VALUE> actual) {
+    return soft(Assertions.assertThat(actual));
+  }
+
   /**
    * Creates a new instance of a {@link StackIterableAssert}
    *
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * The difference between two groups of elements, counting occurrences (bag semantics). Computed in O(n+m) by counting
+ * the expected elements in a hashed bag and consuming one occurrence per actual element.
+ *
+ * @param <T> the type of the elements.
+ */
+final class ElementsDiff<T> {
+  private final MutableList<T> notFound;
+  private final MutableList<T> notExpected;
+
+  private ElementsDiff(MutableList<T> notFound, MutableList<T> notExpected) {
+    this.notFound = notFound;
+    this.notExpected = notExpected;
+  }
+
+  /**
+   * Computes the difference between the actual and the expected elements.
+   *
+   * @param actual   the actual elements.
+   * @param expected the expected elements.
+   * @param <T>      the type of the elements.
+   * @return the expected elements missing from actual (in expected order) and the actual elements that were not
+   * expected (in actual order).
+   */
+  static <T> ElementsDiff<T> diff(RichIterable<? extends T> actual, RichIterable<? extends T> expected) {
+    MutableBag<T> remaining = Bags.mutable.withAll(expected);
+    MutableList<T> notExpected = Lists.mutable.empty();
+    actual.each(element -> {
+      if (!remaining.remove(element)) {
+        notExpected.add(element);
+      }
+    });
+
+    // Whatever is left in the bag was not found, walk the expected elements to report them in their original order
+    MutableList<T> notFound = Lists.mutable.empty();
+    if (remaining.notEmpty()) {
+      expected.each(element -> {
+        if (remaining.remove(element)) {
+          notFound.add(element);
+        }
+      });
+    }
+    return new ElementsDiff<>(notFound, notExpected);
+  }
+
+  boolean isEmpty() {
+    return notFound.isEmpty() && notExpected.isEmpty();
+  }
+
+  MutableList<T> notFound() {
+    return notFound;
+  }
+
+  MutableList<T> notExpected() {
+    return notExpected;
+  }
+}
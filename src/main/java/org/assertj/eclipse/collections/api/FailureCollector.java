@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Collects the failures found while scanning the actual value of an assertion. The backing list is only created when
+ * the first failure is added, so a scan where everything passes does not allocate anything.
+ *
+ * @param <T> the type of the collected failures.
+ */
+final class FailureCollector<T> {
+  private final int failureCap;
+  private MutableList<T> failures;
+
+  /**
+   * Creates a new {@link FailureCollector}.
+   *
+   * @param failureCap the number of failures after which the scan should stop.
+   */
+  FailureCollector(int failureCap) {
+    this.failureCap = failureCap;
+  }
+
+  /**
+   * Adds a failure.
+   *
+   * @param failure the failure to add.
+   * @return {@code true} if the failure cap has been reached and the scan should stop, {@code false} otherwise.
+   */
+  boolean add(T failure) {
+    if (failures == null) {
+      failures = Lists.mutable.empty();
+    }
+    failures.add(failure);
+    return failures.size() >= failureCap;
+  }
+
+  int failureCap() {
+    return failureCap;
+  }
+
+  /**
+   * Returns whether the failure cap has been reached. Scans check this before visiting each element rather than
+   * stopping on the element that reached the cap, so that a scan is only reported as truncated when some elements
+   * were left unchecked.
+   *
+   * @return {@code true} if the failure cap has been reached, {@code false} otherwise.
+   */
+  boolean isFull() {
+    return size() >= failureCap;
+  }
+
+  boolean isEmpty() {
+    return failures == null;
+  }
+
+  int size() {
+    return failures == null ? 0 : failures.size();
+  }
+
+  MutableList<T> toList() {
+    return failures == null ? Lists.mutable.empty() : failures;
+  }
+}
@@ -15,157 +15,10 @@
  */
 package org.assertj.eclipse.collections.api;
 
-import static java.util.Objects.requireNonNull;
-import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
-import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
-import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
-import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
-import static org.assertj.core.error.ShouldContain.shouldContain;
-import static org.assertj.core.error.ShouldContainAnyOf.shouldContainAnyOf;
-import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
-
-import java.util.Optional;
-
-import org.assertj.core.error.UnsatisfiedRequirement;
-import org.assertj.core.presentation.PredicateDescription;
 import org.eclipse.collections.api.FloatIterable;
-import org.eclipse.collections.api.RichIterable;
-import org.eclipse.collections.api.block.predicate.primitive.FloatPredicate;
-import org.eclipse.collections.api.block.procedure.primitive.FloatProcedure;
-import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.primitive.FloatLists;
-import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.list.primitive.FloatList;
-import org.eclipse.collections.api.list.primitive.ImmutableFloatList;
 
-public class FloatIterableAssert extends AbstractPrimitiveIterableAssert<FloatIterableAssert, FloatIterable> {
+public class FloatIterableAssert extends AbstractFloatIterableAssert<FloatIterableAssert, FloatIterable> {
   public FloatIterableAssert(FloatIterable actual) {
     super(actual, FloatIterableAssert.class);
   }
-
-  public FloatIterableAssert allMatch(FloatPredicate predicate) {
-    return executeAssertion(() -> assertAllMatch(predicate, PredicateDescription.GIVEN));
-  }
-
-  public FloatIterableAssert allMatch(FloatPredicate predicate, String predicateDescription) {
-    return executeAssertion(() -> assertAllMatch(predicate, new PredicateDescription(predicateDescription)));
-  }
-
-  private void assertAllMatch(FloatPredicate predicate, PredicateDescription predicateDescription) {
-    isNotNull();
-    requireNonNull(predicate, "The predicate to evaluate should not be null");
-    isNotEmpty();
-
-    FloatList nonMatches = actual.reject(predicate).toList();
-    if (nonMatches.isEmpty()) {
-      return;
-    }
-
-    throw assertionError(elementsShouldMatch(actual, nonMatches.size() == 1 ? nonMatches.getFirst() : nonMatches, predicateDescription));
-  }
-
-  public FloatIterableAssert allSatisfy(FloatProcedure requirements) {
-    return executeAssertion(() -> {
-      isNotNull();
-      isNotEmpty();
-      requireNonNull(requirements, "The FloatProcedure expressing the assertions requirements must not be null");
-
-      RichIterable<UnsatisfiedRequirement> unsatisfiedRequirements = actual.collect(element -> failsRequirements(requirements, element))
-        .collectIf(Optional::isPresent, Optional::get);
-      if (unsatisfiedRequirements.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(elementsShouldSatisfy(actual, unsatisfiedRequirements.toList(), info));
-    });
-  }
-
-  private static Optional<UnsatisfiedRequirement> failsRequirements(FloatProcedure requirements, float element) {
-    try {
-      requirements.value(element);
-    } catch (AssertionError ex) {
-      return Optional.of(new UnsatisfiedRequirement(element, ex));
-    }
-    return Optional.empty();
-  }
-
-  public FloatIterableAssert anyMatch(FloatPredicate predicate) {
-    return executeAssertion(() -> assertAnyMatch(predicate, PredicateDescription.GIVEN));
-  }
-
-  public FloatIterableAssert anyMatch(FloatPredicate predicate, String predicateDescription) {
-    return executeAssertion(() -> assertAnyMatch(predicate, new PredicateDescription(predicateDescription)));
-  }
-
-  private void assertAnyMatch(FloatPredicate predicate, PredicateDescription predicateDescription) {
-    isNotNull();
-    requireNonNull(predicate, "The predicate to evaluate should not be null");
-    if (actual.noneSatisfy(predicate)) {
-      throw assertionError(anyElementShouldMatch(actual, predicateDescription));
-    }
-  }
-
-  public FloatIterableAssert anySatisfy(FloatProcedure requirements) {
-    return executeAssertion(() -> assertAnySatisfy(requirements));
-  }
-
-  private void assertAnySatisfy(FloatProcedure requirements) {
-    isNotNull();
-    requireNonNull(requirements, "The FloatProcedure expressing the assertions requirements must not be null");
-
-    MutableList<UnsatisfiedRequirement> unsatisfiedRequirements = Lists.mutable.empty();
-    if (actual.anySatisfy(element -> {
-      Optional<UnsatisfiedRequirement> result = failsRequirements(requirements, element);
-      result.ifPresent(unsatisfiedRequirements::add);
-      return result.isEmpty();
-    })) {
-      return;
-    }
-
-    throw assertionError(elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
-  }
-
-  public FloatIterableAssert contains(float... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-
-      FloatIterable notFound = FloatLists.immutable.of(values).reject(actual::contains);
-
-      if (notFound.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(shouldContain(actual, values, notFound));
-    });
-  }
-
-  public FloatIterableAssert containsAnyOf(float... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-      requireNonNull(values, "The array of values to look for should not be null");
-
-      if (actual.isEmpty() && values.length == 0) {
-        return;
-      }
-
-      if (actual.containsAny(values)) {
-        return;
-      }
-
-      throw assertionError(shouldContainAnyOf(actual, values));
-    });
-  }
-
-  public FloatIterableAssert doesNotContain(float... values) {
-    return executeAssertion(() -> {
-      isNotNull();
-
-      ImmutableFloatList found = FloatLists.immutable.of(values).select(actual::contains);
-      if (found.isEmpty()) {
-        return;
-      }
-
-      throw assertionError(shouldNotContain(actual, values, found));
-    });
-  }
 }
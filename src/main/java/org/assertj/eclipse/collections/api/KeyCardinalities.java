@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * The number of values held by each key of a multimap. The smallest and largest numbers of values are found in a single
+ * pass over the keys, which is all a passing assertion needs. The keys are only walked again to compute a percentile or
+ * to report the offenders of a failing assertion.
+ *
+ * @param <K> the type of the keys.
+ */
+final class KeyCardinalities<K> {
+  private final Multimap<K, ?> multimap;
+  private int min = Integer.MAX_VALUE;
+  private int max;
+
+  private KeyCardinalities(Multimap<K, ?> multimap) {
+    this.multimap = multimap;
+    for (RichIterable<?> values : multimap.multiValuesView()) {
+      int count = values.size();
+      min = Math.min(min, count);
+      max = Math.max(max, count);
+    }
+  }
+
+  /**
+   * Computes the smallest and largest number of values per key of the given multimap.
+   *
+   * @param multimap the multimap to inspect.
+   * @param <K>      the type of the keys.
+   * @return the number of values of each key.
+   */
+  static <K> KeyCardinalities<K> of(Multimap<K, ?> multimap) {
+    return new KeyCardinalities<>(multimap);
+  }
+
+  boolean isEmpty() {
+    return multimap.isEmpty();
+  }
+
+  int min() {
+    return isEmpty() ? 0 : min;
+  }
+
+  int max() {
+    return max;
+  }
+
+  /**
+   * Returns the number of values per key at the given percentile, using the nearest-rank method.
+   *
+   * @param percentile the percentile, greater than 0 and at most 100.
+   * @return the smallest number of values such that at least {@code percentile} percent of the keys hold at most that
+   * many values, or 0 if there are no keys.
+   */
+  int percentile(double percentile) {
+    if (isEmpty()) {
+      return 0;
+    }
+    int[] counts = new int[multimap.sizeDistinct()];
+    int index = 0;
+    for (RichIterable<?> values : multimap.multiValuesView()) {
+      counts[index++] = values.size();
+    }
+    int rank = (int) Math.ceil(percentile / 100.0 * counts.length);
+    return select(counts, Math.max(rank, 1) - 1);
+  }
+
+  /**
+   * Returns the k-th smallest of the given counts, reordering them in place. Only the part of the array holding the
+   * k-th smallest count is partitioned again, so this runs in linear time on average instead of sorting all the counts.
+   *
+   * @param counts the counts to select from.
+   * @param k      the zero-based rank of the count to return.
+   * @return the k-th smallest count.
+   */
+  private static int select(int[] counts, int k) {
+    int left = 0;
+    int right = counts.length - 1;
+    while (left < right) {
+      int pivot = counts[(left + right) >>> 1];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (counts[i] < pivot) {
+          i++;
+        }
+        while (counts[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          int count = counts[i];
+          counts[i++] = counts[j];
+          counts[j--] = count;
+        }
+      }
+      // The counts between j and i are all equal to the pivot
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        return counts[k];
+      }
+    }
+    return counts[k];
+  }
+
+  /**
+   * Returns the number of keys whose number of values is offending.
+   *
+   * @param offending tells whether a number of values is offending.
+   * @return the number of offending keys.
+   */
+  int countOffenders(IntPredicate offending) {
+    return multimap.multiValuesView().count(values -> offending.test(values.size()));
+  }
+
+  /**
+   * Returns the worst offending keys with their number of values, the most severe first.
+   *
+   * @param offending       tells whether a number of values is offending.
+   * @param severity        how far an offending number of values is from the accepted ones.
+   * @param maxReportedKeys the maximum number of keys to return.
+   * @return at most {@code maxReportedKeys} offending keys paired with their number of values.
+   */
+  MutableList<ObjectIntPair<K>> worstOffenders(IntPredicate offending, IntUnaryOperator severity, int maxReportedKeys) {
+    MutableList<ObjectIntPair<K>> offenders = Lists.mutable.empty();
+    multimap.forEachKeyMultiValues((key, values) -> {
+      int count = values.size();
+      if (offending.test(count)) {
+        offenders.add(PrimitiveTuples.pair(key, count));
+      }
+    });
+    return offenders
+      .sortThisByInt(pair -> -severity.applyAsInt(pair.getTwo()))
+      .take(maxReportedKeys);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.assertj.core.api.ObjectAssert;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * Assertion methods for {@link LazyIterable} interface.
+ * <p>
+ * The lazy pipeline is evaluated at most once, no matter how many assertions are chained. Elements are recorded the
+ * first time they are evaluated and replayed by the following assertions, while short-circuiting assertions (e.g.
+ * {@code anyMatch} or {@code isNotEmpty}) only evaluate the elements they need. {@link #sourcePasses()} reports how
+ * many times the source was iterated.
+ * <p>
+ * The elements are read from a memoised view of the given LazyIterable, while {@code isSameAs}, {@code isNotSameAs},
+ * {@code isEqualTo} and {@code isNotEqualTo} compare the given LazyIterable itself.
+ *
+ * @param <ELEMENT> the type of elements stored in {@link LazyIterable}.
+ */
+public class LazyIterableAssert<ELEMENT> extends AbstractRichIterableAssert<LazyIterableAssert<ELEMENT>, LazyIterable<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> {
+  private final LazyIterable<? extends ELEMENT> source;
+  private final MemoizingIterable<ELEMENT> memoizingIterable;
+
+  public LazyIterableAssert(LazyIterable<? extends ELEMENT> elements) {
+    this(elements, elements == null ? null : new MemoizingIterable<>(elements));
+  }
+
+  private LazyIterableAssert(LazyIterable<? extends ELEMENT> source, MemoizingIterable<ELEMENT> memoizingIterable) {
+    super(memoizingIterable == null ? null : LazyIterate.adapt(memoizingIterable), LazyIterableAssert.class);
+    this.source = source;
+    this.memoizingIterable = memoizingIterable;
+  }
+
+  /**
+   * Returns the number of times the source LazyIterable has been iterated by the assertions run so far. It is
+   * {@code 0} until an assertion needs an element and never more than {@code 1}.
+   *
+   * @return the number of passes over the source LazyIterable.
+   */
+  public int sourcePasses() {
+    return memoizingIterable == null ? 0 : memoizingIterable.sourcePasses();
+  }
+
+  @Override
+  public LazyIterableAssert<ELEMENT> isSameAs(Object expected) {
+    return executeAssertion(() -> objects.assertSame(info, source, expected));
+  }
+
+  @Override
+  public LazyIterableAssert<ELEMENT> isNotSameAs(Object other) {
+    return executeAssertion(() -> objects.assertNotSame(info, source, other));
+  }
+
+  @Override
+  public LazyIterableAssert<ELEMENT> isEqualTo(Object expected) {
+    return executeAssertion(() -> objects.assertEqual(info, source, expected));
+  }
+
+  @Override
+  public LazyIterableAssert<ELEMENT> isNotEqualTo(Object other) {
+    return executeAssertion(() -> objects.assertNotEqual(info, source, other));
+  }
+
+  @Override
+  protected ObjectAssert<ELEMENT> toAssert(ELEMENT value) {
+    return new ObjectAssert<>(value);
+  }
+
+  @Override
+  protected LazyIterableAssert<ELEMENT> newAbstractIterableAssert(Iterable<? extends ELEMENT> iterable) {
+    return new LazyIterableAssert<>(LazyIterate.adapt(iterable));
+  }
+}
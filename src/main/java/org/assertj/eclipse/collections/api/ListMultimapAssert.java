@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static org.assertj.core.error.ShouldContainKeys.shouldContainKeys;
+import static org.assertj.eclipse.collections.error.ShouldHaveSortedValuesForKey.shouldHaveSortedValuesForKey;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+
+/**
+ * Assertion methods for the {@link ListMultimap} interface. On top of the {@link AbstractOrderedIterableMultimapAssert}
+ * assertions, the values of a key can be checked against their natural order. The values are read by index from the
+ * list returned by {@link ListMultimap#get(Object)}, and every check stops at the first value out of place.
+ *
+ * @param <KEY>   the type of the keys in the {@link ListMultimap}.
+ * @param <VALUE> the type of the values in the {@link ListMultimap}.
+ */
+public class ListMultimapAssert<KEY, VALUE> extends AbstractOrderedIterableMultimapAssert<ListMultimapAssert<KEY, VALUE>, ListMultimap<KEY, VALUE>, KEY, VALUE> {
+  /**
+   * Creates a new {@link ListMultimapAssert}.
+   *
+   * @param actual The actual ListMultimap to assert against
+   */
+  public ListMultimapAssert(ListMultimap<KEY, VALUE> actual) {
+    super(actual, ListMultimapAssert.class);
+  }
+
+  /**
+   * Navigates to the values associated with the given key in the actual {@link ListMultimap}.
+   *
+   * @param key the key whose values to navigate to.
+   * @return a new assertion object on the values of the given key.
+   * @throws AssertionError if the actual {@link ListMultimap} is {@code null}.
+   */
+  @Override
+  public ListIterableAssert<VALUE> valuesForKey(KEY key) {
+    this.isNotNull();
+    return new ListIterableAssert<>(this.actual.get(key)).as(valuesForKeyDescription(key));
+  }
+
+  /**
+   * Verifies that the actual {@link ListMultimap} contains the given key and that its values are sorted according to
+   * their natural order.
+   * <p>
+   * Example:
+   * <pre>{@code
+   * ListMultimap<String, Integer> multimap = Multimaps.mutable.list.with("Key1", 1, "Key1", 2, "Key2", 4, "Key2", 3);
+   *
+   * // assertion will pass
+   * assertThat(multimap).valuesForKeyAreSorted("Key1");
+   *
+   * // assertion will fail
+   * assertThat(multimap).valuesForKeyAreSorted("Key2");
+   * }</pre>
+   *
+   * @param key the key whose values to check.
+   * @return this assertion object for method chaining.
+   * @throws ClassCastException if the values of the key are not {@link Comparable}.
+   * @throws AssertionError     if the actual {@link ListMultimap} is {@code null}, does not contain the key, or the
+   *                            values of the key are not sorted.
+   */
+  public ListMultimapAssert<KEY, VALUE> valuesForKeyAreSorted(KEY key) {
+    this.isNotNull();
+    if (!this.actual.containsKey(key)) {
+      throw this.assertionError(shouldContainKeys(this.actual, Sets.mutable.with(key)));
+    }
+
+    ListIterable<VALUE> values = this.actual.get(key);
+    int index = OrderedValues.firstUnsorted(values, OrderedValues.naturalOrder());
+    if (index < 0) {
+      return this.myself;
+    }
+    throw this.assertionError(shouldHaveSortedValuesForKey(key, values, index, values.get(index), values.get(index + 1)));
+  }
+}
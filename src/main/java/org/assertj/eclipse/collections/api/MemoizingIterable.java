@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * An {@link Iterable} over a {@link LazyIterable} that evaluates the lazy pipeline at most once.
+ * <p>
+ * Elements are pulled from the source only when an iterator asks for them and are recorded in a snapshot, which every
+ * later iterator replays before pulling more. A short-circuiting check therefore only evaluates the elements it needs,
+ * and the source is never iterated more than once. Not thread safe.
+ *
+ * @param <T> the type of the elements.
+ */
+final class MemoizingIterable<T> implements Iterable<T> {
+  private final LazyIterable<? extends T> source;
+  private final MutableList<T> snapshot = Lists.mutable.empty();
+  private Iterator<? extends T> sourceIterator;
+  private boolean exhausted;
+  private int sourcePasses;
+
+  MemoizingIterable(LazyIterable<? extends T> source) {
+    this.source = source;
+  }
+
+  /**
+   * Returns the number of times the source has been iterated, which is never more than one.
+   *
+   * @return the number of source passes.
+   */
+  int sourcePasses() {
+    return sourcePasses;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new ReplayingIterator();
+  }
+
+  /**
+   * Pulls elements from the source until the snapshot contains the given index or the source is exhausted.
+   */
+  private boolean isAvailable(int index) {
+    while (index >= snapshot.size() && !exhausted) {
+      if (sourceIterator == null) {
+        sourceIterator = source.iterator();
+        sourcePasses++;
+      }
+      if (sourceIterator.hasNext()) {
+        snapshot.add(sourceIterator.next());
+      } else {
+        exhausted = true;
+        sourceIterator = null;
+      }
+    }
+    return index < snapshot.size();
+  }
+
+  private final class ReplayingIterator implements Iterator<T> {
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return isAvailable(index);
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return snapshot.get(index++);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.tuple.Triple;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * The per-key difference between two multimaps: the keys missing from actual, the keys actual should not have, and the
+ * keys present on both sides whose values differ (compared with bag semantics, ignoring order). Only the first
+ * differing keys are kept to be reported, the others are only counted.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+final class MultimapDiff<K, V> {
+  private final int maxReportedKeys;
+  private final MutableList<K> missingKeys = Lists.mutable.empty();
+  private final MutableList<K> unexpectedKeys = Lists.mutable.empty();
+  private final MutableList<Triple<K, MutableList<V>, MutableList<V>>> differentValues = Lists.mutable.empty();
+  private int matchedKeyCount;
+  private int missingKeyCount;
+  private int unexpectedKeyCount;
+  private int differentValuesKeyCount;
+
+  private MultimapDiff(int maxReportedKeys) {
+    this.maxReportedKeys = maxReportedKeys;
+  }
+
+  /**
+   * Computes the difference between the actual and the expected multimaps with a single pass over the keys of actual.
+   * The keys of expected are only walked when some of them were not seen in actual.
+   *
+   * @param actual          the actual multimap.
+   * @param expected        the expected multimap.
+   * @param maxReportedKeys the maximum number of differing keys to keep for the report.
+   * @param <K>             the type of the keys.
+   * @param <V>             the type of the values.
+   * @return the difference between the two multimaps.
+   */
+  static <K, V> MultimapDiff<K, V> diff(Multimap<K, V> actual, Multimap<K, V> expected, int maxReportedKeys) {
+    MultimapDiff<K, V> diff = new MultimapDiff<>(maxReportedKeys);
+    actual.keyMultiValuePairsView().forEach(pair -> {
+      K key = pair.getOne();
+      if (!expected.containsKey(key)) {
+        diff.unexpectedKey(key);
+        return;
+      }
+      diff.matchedKeyCount++;
+
+      RichIterable<V> actualValues = pair.getTwo();
+      RichIterable<V> expectedValues = expected.get(key);
+      if (actualValues.equals(expectedValues)) {
+        return;
+      }
+      ElementsDiff<V> valuesDiff = ElementsDiff.diff(actualValues, expectedValues);
+      if (!valuesDiff.isEmpty()) {
+        diff.differentValues(key, valuesDiff.notFound(), valuesDiff.notExpected());
+      }
+    });
+
+    if (diff.matchedKeyCount < expected.sizeDistinct()) {
+      expected.keysView().forEach(key -> {
+        if (!actual.containsKey(key)) {
+          diff.missingKey(key);
+        }
+      });
+    }
+    return diff;
+  }
+
+  private void unexpectedKey(K key) {
+    if (reportedKeyCount() < maxReportedKeys) {
+      unexpectedKeys.add(key);
+    }
+    unexpectedKeyCount++;
+  }
+
+  private void missingKey(K key) {
+    if (reportedKeyCount() < maxReportedKeys) {
+      missingKeys.add(key);
+    }
+    missingKeyCount++;
+  }
+
+  private void differentValues(K key, MutableList<V> notFound, MutableList<V> notExpected) {
+    if (reportedKeyCount() < maxReportedKeys) {
+      differentValues.add(Tuples.triple(key, notFound, notExpected));
+    }
+    differentValuesKeyCount++;
+  }
+
+  private int reportedKeyCount() {
+    return missingKeys.size() + unexpectedKeys.size() + differentValues.size();
+  }
+
+  boolean isEmpty() {
+    return missingKeyCount == 0 && unexpectedKeyCount == 0 && differentValuesKeyCount == 0;
+  }
+
+  int missingKeyCount() {
+    return missingKeyCount;
+  }
+
+  MutableList<K> missingKeys() {
+    return missingKeys;
+  }
+
+  int unexpectedKeyCount() {
+    return unexpectedKeyCount;
+  }
+
+  MutableList<K> unexpectedKeys() {
+    return unexpectedKeys;
+  }
+
+  int differentValuesKeyCount() {
+    return differentValuesKeyCount;
+  }
+
+  MutableList<Triple<K, MutableList<V>, MutableList<V>>> differentValues() {
+    return differentValues;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.assertj.core.data.Offset;
+
+/**
+ * Compares a computed statistic with an expected value within an {@link Offset}, the way AssertJ compares real numbers:
+ * equal values (including two NaN or two infinities of the same sign) are always close, while a single NaN is beyond
+ * any offset.
+ */
+final class Offsets {
+  private Offsets() {
+    // Do nothing
+  }
+
+  /**
+   * Returns whether the actual value is farther from the expected one than the given offset allows.
+   *
+   * @param actual   the computed value.
+   * @param expected the expected value.
+   * @param offset   the accepted offset, strict or not.
+   * @return {@code true} if the actual value is not close to the expected one, {@code false} otherwise.
+   */
+  static boolean isBeyondOffset(double actual, double expected, Offset<Double> offset) {
+    if (Double.compare(actual, expected) == 0) {
+      return false;
+    }
+    double difference = Math.abs(actual - expected);
+    if (Double.isNaN(difference)) {
+      // A single NaN, or infinities of opposite signs
+      return true;
+    }
+    return offset.strict ? difference >= offset.value : difference > offset.value;
+  }
+}
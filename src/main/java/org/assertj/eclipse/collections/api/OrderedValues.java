@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+
+/**
+ * Order checks on the values of one key of a multimap. List values are read by index, other ordered values are walked
+ * with a single iterator. Every check stops at the first offending position.
+ */
+final class OrderedValues {
+  private OrderedValues() {
+    // Do nothing
+  }
+
+  /**
+   * Returns a comparator ordering values by their natural order.
+   *
+   * @param <T> the type of the values, expected to implement {@link Comparable}.
+   * @return the natural order comparator.
+   * @throws ClassCastException when comparing values that do not implement {@link Comparable}.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Comparator<T> naturalOrder() {
+    return (left, right) -> ((Comparable<Object>) left).compareTo(right);
+  }
+
+  /**
+   * Finds the first position where the actual values differ from the expected ones.
+   *
+   * @param actual   the actual values.
+   * @param expected the expected values, in order.
+   * @param <T>      the type of the values.
+   * @return the first index where the values differ, or {@code -1} if they are the same.
+   */
+  static <T> int firstMismatch(OrderedIterable<T> actual, T[] expected) {
+    if (actual instanceof ListIterable<T> list) {
+      int size = Math.min(list.size(), expected.length);
+      for (int i = 0; i < size; i++) {
+        if (!Objects.equals(list.get(i), expected[i])) {
+          return i;
+        }
+      }
+    } else {
+      Iterator<T> iterator = actual.iterator();
+      for (int i = 0; i < expected.length && iterator.hasNext(); i++) {
+        if (!Objects.equals(iterator.next(), expected[i])) {
+          return i;
+        }
+      }
+    }
+    // Same common prefix, the values only differ if one side is longer
+    return actual.size() == expected.length ? -1 : Math.min(actual.size(), expected.length);
+  }
+
+  /**
+   * Finds the first value that is greater than the value following it. The values are expected to be ordered, e.g.
+   * the values of one key of a list or sorted multimap.
+   *
+   * @param actual     the actual values.
+   * @param comparator the comparator defining the expected order.
+   * @param <T>        the type of the values.
+   * @return the index of the first value out of order, or {@code -1} if the values are sorted.
+   */
+  static <T> int firstUnsorted(Iterable<T> actual, Comparator<? super T> comparator) {
+    if (actual instanceof ListIterable<T> list) {
+      for (int i = 1; i < list.size(); i++) {
+        if (comparator.compare(list.get(i - 1), list.get(i)) > 0) {
+          return i - 1;
+        }
+      }
+      return -1;
+    }
+
+    Iterator<T> iterator = actual.iterator();
+    if (!iterator.hasNext()) {
+      return -1;
+    }
+    T previous = iterator.next();
+    for (int i = 0; iterator.hasNext(); i++) {
+      T current = iterator.next();
+      if (comparator.compare(previous, current) > 0) {
+        return i;
+      }
+      previous = current;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the value at the given position.
+   *
+   * @param actual the actual values, expected to be ordered.
+   * @param index  the position of the value, within the values.
+   * @param <T>    the type of the values.
+   * @return the value at the given position.
+   */
+  static <T> T valueAt(Iterable<T> actual, int index) {
+    if (actual instanceof ListIterable<T> list) {
+      return list.get(index);
+    }
+    Iterator<T> iterator = actual.iterator();
+    for (int i = 0; i < index; i++) {
+      iterator.next();
+    }
+    return iterator.next();
+  }
+}
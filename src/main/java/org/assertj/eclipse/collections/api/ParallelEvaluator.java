@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+/**
+ * Evaluates a function against the elements of a {@link RichIterable} in parallel batches.
+ * <p>
+ * Results are merged batch by batch, in encounter order, so the results handed to the {@link FailureCollector} are the
+ * same as the ones a sequential scan would have found, no matter how the batches were scheduled. Once a batch has found
+ * enough results to reach the failure cap, the elements after it are skipped by every batch.
+ */
+final class ParallelEvaluator {
+  private static final Object NO_RESULT = new Object();
+  private static final Object STOP = new Object();
+  private static final int BATCHES_PER_THREAD = 4;
+
+  private final ExecutorService executorService;
+  private final int batchSize;
+
+  /**
+   * Creates a new {@link ParallelEvaluator}.
+   *
+   * @param executorService the executor service running the batches.
+   * @param batchSize       the number of elements per batch, or {@code 0} to split the elements into a few batches per
+   *                        available processor.
+   */
+  ParallelEvaluator(ExecutorService executorService, int batchSize) {
+    this.executorService = executorService;
+    this.batchSize = batchSize;
+  }
+
+  static ParallelEvaluator onCommonPool() {
+    return new ParallelEvaluator(ForkJoinPool.commonPool(), 0);
+  }
+
+  /**
+   * Adds the elements matching the given predicate to the collector, in encounter order.
+   *
+   * @return {@code true} if the failure cap of the collector was reached with elements left unchecked, {@code false}
+   * otherwise.
+   */
+  <T> boolean select(RichIterable<? extends T> iterable, Predicate<? super T> predicate, FailureCollector<? super T> results) {
+    return evaluate(iterable, element -> predicate.test(element) ? element : NO_RESULT, results);
+  }
+
+  /**
+   * Adds the non-null results of the given function to the collector, in encounter order.
+   *
+   * @return {@code true} if the failure cap of the collector was reached with elements left unchecked, {@code false}
+   * otherwise.
+   */
+  <T, R> boolean collectIfNotNull(RichIterable<? extends T> iterable, Function<? super T, ? extends R> function,
+                                  FailureCollector<? super R> results) {
+    return evaluate(iterable, element -> {
+      R result = function.apply(element);
+      return result == null ? NO_RESULT : result;
+    }, results);
+  }
+
+  /**
+   * Adds the non-null results of the given function to the collector, in encounter order, unless the function returns
+   * {@code null} for an element. In that case every batch stops as soon as possible and the collected results are
+   * incomplete.
+   *
+   * @return {@code true} if the function returned {@code null} for an element, {@code false} otherwise.
+   */
+  <T, R> boolean collectUnlessAnyNull(RichIterable<? extends T> iterable, Function<? super T, ? extends R> function,
+                                      FailureCollector<? super R> results) {
+    AtomicBoolean foundNull = new AtomicBoolean();
+    evaluate(iterable, element -> {
+      R result = function.apply(element);
+      if (result != null) {
+        return result;
+      }
+      foundNull.set(true);
+      return STOP;
+    }, results);
+    return foundNull.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T, R> boolean evaluate(RichIterable<? extends T> iterable, Function<? super T, Object> evaluator,
+                                  FailureCollector<? super R> results) {
+    // Batches need random access, anything else (including linked lists) is copied once
+    ListIterable<? extends T> elements = iterable instanceof ListIterable<? extends T> list && list instanceof RandomAccess
+      ? list
+      : iterable.toList();
+    int size = elements.size();
+    int limit = results.failureCap();
+    int batchLength = batchSize(size);
+
+    AtomicInteger stopIndex = new AtomicInteger(size);
+    MutableList<Future<Batch>> batches = Lists.mutable.empty();
+    try {
+      for (int from = 0; from < size; from += batchLength) {
+        int batchFrom = from;
+        int batchTo = Math.min(size, from + batchLength);
+        batches.add(executorService.submit(() -> evaluateBatch(elements, evaluator, limit, batchFrom, batchTo, stopIndex)));
+      }
+
+      for (Future<Batch> future : batches) {
+        Batch batch = await(future);
+        for (int i = 0; i < batch.results.size(); i++) {
+          if (results.add((R) batch.results.get(i))) {
+            return batch.indexes.get(i) < size - 1;
+          }
+        }
+      }
+      return false;
+    } finally {
+      // Batches after the one that reached the failure cap (or threw) are not needed anymore
+      batches.each(future -> future.cancel(false));
+    }
+  }
+
+  private int batchSize(int size) {
+    if (batchSize > 0) {
+      return batchSize;
+    }
+    int batches = Runtime.getRuntime().availableProcessors() * BATCHES_PER_THREAD;
+    return Math.max(1, (size + batches - 1) / batches);
+  }
+
+  private static <T> Batch evaluateBatch(ListIterable<? extends T> elements, Function<? super T, Object> evaluator, int limit,
+                                         int from, int to, AtomicInteger stopIndex) {
+    Batch batch = new Batch();
+    for (int index = from; index < to && index < stopIndex.get(); index++) {
+      Object result = evaluator.apply(elements.get(index));
+      if (result == STOP) {
+        // The outcome is decided, no batch needs to look at any other element
+        stopIndex.set(0);
+        break;
+      }
+      if (result != NO_RESULT && batch.add(result, index) >= limit) {
+        // This batch alone reaches the failure cap, no batch needs to look past this element
+        stopIndex.accumulateAndGet(index + 1, Math::min);
+        break;
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * The results of a batch, along with the index of the element each result was computed from.
+   */
+  private static final class Batch {
+    private final MutableList<Object> results = Lists.mutable.empty();
+    private final MutableIntList indexes = IntLists.mutable.empty();
+
+    int add(Object result, int index) {
+      results.add(result);
+      indexes.add(index);
+      return results.size();
+    }
+  }
+
+  private static <V> V await(Future<V> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the parallel evaluation to complete", e);
+    } catch (ExecutionException e) {
+      // Rethrow what the predicate or function threw, as a sequential evaluation would have
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -0,0 +1,1035 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.BitSet;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+
+import org.eclipse.collections.api.BooleanIterable;
+import org.eclipse.collections.api.ByteIterable;
+import org.eclipse.collections.api.CharIterable;
+import org.eclipse.collections.api.DoubleIterable;
+import org.eclipse.collections.api.FloatIterable;
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ShortIterable;
+import org.eclipse.collections.api.block.predicate.primitive.BooleanPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.BytePredicate;
+import org.eclipse.collections.api.block.predicate.primitive.CharPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.DoublePredicate;
+import org.eclipse.collections.api.block.predicate.primitive.FloatPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.LongPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ShortPredicate;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.factory.primitive.ByteLists;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.FloatLists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.LongLists;
+import org.eclipse.collections.api.factory.primitive.ShortLists;
+import org.eclipse.collections.api.list.primitive.MutableBooleanList;
+import org.eclipse.collections.api.list.primitive.MutableByteList;
+import org.eclipse.collections.api.list.primitive.MutableCharList;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableFloatList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.list.primitive.MutableShortList;
+import org.eclipse.collections.api.set.primitive.BooleanSet;
+import org.eclipse.collections.api.set.primitive.ByteSet;
+import org.eclipse.collections.api.set.primitive.CharSet;
+import org.eclipse.collections.api.set.primitive.DoubleSet;
+import org.eclipse.collections.api.set.primitive.FloatSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.api.set.primitive.ShortSet;
+
+/**
+ * Membership checks of many values against a primitive iterable. Probing a list is a linear scan, so once more than a
+ * handful of values are looked for, the actual values are indexed first: a set is used as is, byte, char and short
+ * values go in a bitmap covering their whole range, int and long values go in a bitmap when their range is dense, and
+ * everything else goes in a hashed set. The total cost is then linear in the number of actual and expected values.
+ */
+final class PrimitiveContains {
+  private static final int LINEAR_LOOKUP_LIMIT = 8;
+  // A bitmap spending up to this many bits per actual element is still smaller than a hashed set
+  private static final long DENSE_BITS_PER_ELEMENT = 32;
+
+  private PrimitiveContains() {
+    // Do nothing
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link BooleanIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableBooleanList missing(BooleanIterable actual, boolean[] values) {
+    BooleanPredicate contained = lookup(actual, values.length);
+    MutableBooleanList missing = BooleanLists.mutable.empty();
+    for (boolean value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link BooleanIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableBooleanList present(BooleanIterable actual, boolean[] values) {
+    BooleanPredicate contained = lookup(actual, values.length);
+    MutableBooleanList present = BooleanLists.mutable.empty();
+    for (boolean value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link BooleanIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(BooleanIterable actual, boolean[] values) {
+    BooleanPredicate contained = lookup(actual, values.length);
+    for (boolean value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link BooleanIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableBooleanList missing(BooleanIterable actual, BooleanIterable values) {
+    BooleanPredicate contained = lookup(actual, values.size());
+    MutableBooleanList missing = BooleanLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link BooleanIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableBooleanList present(BooleanIterable actual, BooleanIterable values) {
+    if (values instanceof BooleanSet set && actual.noneSatisfy(set::contains)) {
+      return BooleanLists.mutable.empty();
+    }
+    BooleanPredicate contained = lookup(actual, values.size());
+    MutableBooleanList present = BooleanLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link BooleanIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(BooleanIterable actual, BooleanIterable values) {
+    if (values instanceof BooleanSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static BooleanPredicate lookup(BooleanIterable actual, int probes) {
+    if (actual instanceof BooleanSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    boolean hasTrue = actual.contains(true);
+    boolean hasFalse = actual.contains(false);
+    return value -> value ? hasTrue : hasFalse;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link ByteIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableByteList missing(ByteIterable actual, byte[] values) {
+    BytePredicate contained = lookup(actual, values.length);
+    MutableByteList missing = ByteLists.mutable.empty();
+    for (byte value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link ByteIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableByteList present(ByteIterable actual, byte[] values) {
+    BytePredicate contained = lookup(actual, values.length);
+    MutableByteList present = ByteLists.mutable.empty();
+    for (byte value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link ByteIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(ByteIterable actual, byte[] values) {
+    BytePredicate contained = lookup(actual, values.length);
+    for (byte value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link ByteIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableByteList missing(ByteIterable actual, ByteIterable values) {
+    BytePredicate contained = lookup(actual, values.size());
+    MutableByteList missing = ByteLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link ByteIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableByteList present(ByteIterable actual, ByteIterable values) {
+    if (values instanceof ByteSet set && actual.noneSatisfy(set::contains)) {
+      return ByteLists.mutable.empty();
+    }
+    BytePredicate contained = lookup(actual, values.size());
+    MutableByteList present = ByteLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link ByteIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(ByteIterable actual, ByteIterable values) {
+    if (values instanceof ByteSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static BytePredicate lookup(ByteIterable actual, int probes) {
+    if (actual instanceof ByteSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    // The whole value range fits in a small bitmap
+    BitSet bits = new BitSet(1 << Byte.SIZE);
+    actual.forEach(value -> bits.set(value & 0xFF));
+    return value -> bits.get(value & 0xFF);
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link CharIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableCharList missing(CharIterable actual, char[] values) {
+    CharPredicate contained = lookup(actual, values.length);
+    MutableCharList missing = CharLists.mutable.empty();
+    for (char value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link CharIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableCharList present(CharIterable actual, char[] values) {
+    CharPredicate contained = lookup(actual, values.length);
+    MutableCharList present = CharLists.mutable.empty();
+    for (char value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link CharIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(CharIterable actual, char[] values) {
+    CharPredicate contained = lookup(actual, values.length);
+    for (char value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link CharIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableCharList missing(CharIterable actual, CharIterable values) {
+    CharPredicate contained = lookup(actual, values.size());
+    MutableCharList missing = CharLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link CharIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableCharList present(CharIterable actual, CharIterable values) {
+    if (values instanceof CharSet set && actual.noneSatisfy(set::contains)) {
+      return CharLists.mutable.empty();
+    }
+    CharPredicate contained = lookup(actual, values.size());
+    MutableCharList present = CharLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link CharIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(CharIterable actual, CharIterable values) {
+    if (values instanceof CharSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static CharPredicate lookup(CharIterable actual, int probes) {
+    if (actual instanceof CharSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    // The whole value range fits in a small bitmap
+    BitSet bits = new BitSet(1 << Character.SIZE);
+    actual.forEach(value -> bits.set(value));
+    return value -> bits.get(value);
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link DoubleIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableDoubleList missing(DoubleIterable actual, double[] values) {
+    DoublePredicate contained = lookup(actual, values.length);
+    MutableDoubleList missing = DoubleLists.mutable.empty();
+    for (double value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link DoubleIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableDoubleList present(DoubleIterable actual, double[] values) {
+    DoublePredicate contained = lookup(actual, values.length);
+    MutableDoubleList present = DoubleLists.mutable.empty();
+    for (double value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link DoubleIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(DoubleIterable actual, double[] values) {
+    DoublePredicate contained = lookup(actual, values.length);
+    for (double value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link DoubleIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableDoubleList missing(DoubleIterable actual, DoubleIterable values) {
+    DoublePredicate contained = lookup(actual, values.size());
+    MutableDoubleList missing = DoubleLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link DoubleIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableDoubleList present(DoubleIterable actual, DoubleIterable values) {
+    if (values instanceof DoubleSet set && actual.noneSatisfy(set::contains)) {
+      return DoubleLists.mutable.empty();
+    }
+    DoublePredicate contained = lookup(actual, values.size());
+    MutableDoubleList present = DoubleLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link DoubleIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(DoubleIterable actual, DoubleIterable values) {
+    if (values instanceof DoubleSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static DoublePredicate lookup(DoubleIterable actual, int probes) {
+    if (actual instanceof DoubleSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    return actual.toSet()::contains;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link FloatIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableFloatList missing(FloatIterable actual, float[] values) {
+    FloatPredicate contained = lookup(actual, values.length);
+    MutableFloatList missing = FloatLists.mutable.empty();
+    for (float value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link FloatIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableFloatList present(FloatIterable actual, float[] values) {
+    FloatPredicate contained = lookup(actual, values.length);
+    MutableFloatList present = FloatLists.mutable.empty();
+    for (float value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link FloatIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(FloatIterable actual, float[] values) {
+    FloatPredicate contained = lookup(actual, values.length);
+    for (float value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link FloatIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableFloatList missing(FloatIterable actual, FloatIterable values) {
+    FloatPredicate contained = lookup(actual, values.size());
+    MutableFloatList missing = FloatLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link FloatIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableFloatList present(FloatIterable actual, FloatIterable values) {
+    if (values instanceof FloatSet set && actual.noneSatisfy(set::contains)) {
+      return FloatLists.mutable.empty();
+    }
+    FloatPredicate contained = lookup(actual, values.size());
+    MutableFloatList present = FloatLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link FloatIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(FloatIterable actual, FloatIterable values) {
+    if (values instanceof FloatSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static FloatPredicate lookup(FloatIterable actual, int probes) {
+    if (actual instanceof FloatSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    return actual.toSet()::contains;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link IntIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableIntList missing(IntIterable actual, int[] values) {
+    IntPredicate contained = lookup(actual, values.length);
+    MutableIntList missing = IntLists.mutable.empty();
+    for (int value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link IntIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableIntList present(IntIterable actual, int[] values) {
+    IntPredicate contained = lookup(actual, values.length);
+    MutableIntList present = IntLists.mutable.empty();
+    for (int value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link IntIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(IntIterable actual, int[] values) {
+    IntPredicate contained = lookup(actual, values.length);
+    for (int value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link IntIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableIntList missing(IntIterable actual, IntIterable values) {
+    IntPredicate contained = lookup(actual, values.size());
+    MutableIntList missing = IntLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link IntIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableIntList present(IntIterable actual, IntIterable values) {
+    if (values instanceof IntSet set && actual.noneSatisfy(set::contains)) {
+      return IntLists.mutable.empty();
+    }
+    IntPredicate contained = lookup(actual, values.size());
+    MutableIntList present = IntLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link IntIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(IntIterable actual, IntIterable values) {
+    if (values instanceof IntSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static IntPredicate lookup(IntIterable actual, int probes) {
+    if (actual instanceof IntSet || probes <= LINEAR_LOOKUP_LIMIT || actual.isEmpty()) {
+      return actual::contains;
+    }
+    IntSummaryStatistics statistics = actual.summaryStatistics();
+    long range = (long) statistics.getMax() - statistics.getMin() + 1;
+    if (range <= Integer.MAX_VALUE && range <= DENSE_BITS_PER_ELEMENT * statistics.getCount()) {
+      int min = statistics.getMin();
+      int max = statistics.getMax();
+      BitSet bits = new BitSet((int) range);
+      actual.forEach(value -> bits.set(value - min));
+      return value -> value >= min && value <= max && bits.get(value - min);
+    }
+    return actual.toSet()::contains;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link LongIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableLongList missing(LongIterable actual, long[] values) {
+    LongPredicate contained = lookup(actual, values.length);
+    MutableLongList missing = LongLists.mutable.empty();
+    for (long value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link LongIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableLongList present(LongIterable actual, long[] values) {
+    LongPredicate contained = lookup(actual, values.length);
+    MutableLongList present = LongLists.mutable.empty();
+    for (long value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link LongIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(LongIterable actual, long[] values) {
+    LongPredicate contained = lookup(actual, values.length);
+    for (long value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link LongIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableLongList missing(LongIterable actual, LongIterable values) {
+    LongPredicate contained = lookup(actual, values.size());
+    MutableLongList missing = LongLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link LongIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableLongList present(LongIterable actual, LongIterable values) {
+    if (values instanceof LongSet set && actual.noneSatisfy(set::contains)) {
+      return LongLists.mutable.empty();
+    }
+    LongPredicate contained = lookup(actual, values.size());
+    MutableLongList present = LongLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link LongIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(LongIterable actual, LongIterable values) {
+    if (values instanceof LongSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static LongPredicate lookup(LongIterable actual, int probes) {
+    if (actual instanceof LongSet || probes <= LINEAR_LOOKUP_LIMIT || actual.isEmpty()) {
+      return actual::contains;
+    }
+    LongSummaryStatistics statistics = actual.summaryStatistics();
+    long min = statistics.getMin();
+    long max = statistics.getMax();
+    // A negative difference means the range overflowed, which is never dense
+    long span = max - min;
+    if (span >= 0 && span < Integer.MAX_VALUE && span < DENSE_BITS_PER_ELEMENT * statistics.getCount()) {
+      BitSet bits = new BitSet((int) span + 1);
+      actual.forEach(value -> bits.set((int) (value - min)));
+      return value -> value >= min && value <= max && bits.get((int) (value - min));
+    }
+    return actual.toSet()::contains;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link ShortIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in the given order.
+   */
+  static MutableShortList missing(ShortIterable actual, short[] values) {
+    ShortPredicate contained = lookup(actual, values.length);
+    MutableShortList missing = ShortLists.mutable.empty();
+    for (short value : values) {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link ShortIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in the given order.
+   */
+  static MutableShortList present(ShortIterable actual, short[] values) {
+    ShortPredicate contained = lookup(actual, values.length);
+    MutableShortList present = ShortLists.mutable.empty();
+    for (short value : values) {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    }
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link ShortIterable}.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(ShortIterable actual, short[] values) {
+    ShortPredicate contained = lookup(actual, values.length);
+    for (short value : values) {
+      if (contained.accept(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the given values that are not contained in the actual {@link ShortIterable}. The expected values are walked
+   * in place, without being copied.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values not found, in iteration order of {@code values}.
+   */
+  static MutableShortList missing(ShortIterable actual, ShortIterable values) {
+    ShortPredicate contained = lookup(actual, values.size());
+    MutableShortList missing = ShortLists.mutable.empty();
+    values.forEach(value -> {
+      if (!contained.accept(value)) {
+        missing.add(value);
+      }
+    });
+    return missing;
+  }
+
+  /**
+   * Returns the given values that are contained in the actual {@link ShortIterable}. When the values are a set, a
+   * passing check only probes that set with each actual value.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return the values found, in iteration order of {@code values}.
+   */
+  static MutableShortList present(ShortIterable actual, ShortIterable values) {
+    if (values instanceof ShortSet set && actual.noneSatisfy(set::contains)) {
+      return ShortLists.mutable.empty();
+    }
+    ShortPredicate contained = lookup(actual, values.size());
+    MutableShortList present = ShortLists.mutable.empty();
+    values.forEach(value -> {
+      if (contained.accept(value)) {
+        present.add(value);
+      }
+    });
+    return present;
+  }
+
+  /**
+   * Returns whether any of the given values is contained in the actual {@link ShortIterable}. When the values are a
+   * set, that set is probed with each actual value instead.
+   *
+   * @param actual the actual values.
+   * @param values the values to look for.
+   * @return {@code true} if at least one of the values is found.
+   */
+  static boolean containsAny(ShortIterable actual, ShortIterable values) {
+    if (values instanceof ShortSet set) {
+      return actual.anySatisfy(set::contains);
+    }
+    return values.anySatisfy(lookup(actual, values.size()));
+  }
+
+  private static ShortPredicate lookup(ShortIterable actual, int probes) {
+    if (actual instanceof ShortSet || probes <= LINEAR_LOOKUP_LIMIT) {
+      return actual::contains;
+    }
+    // The whole value range fits in a small bitmap
+    BitSet bits = new BitSet(1 << Short.SIZE);
+    actual.forEach(value -> bits.set(value & 0xFFFF));
+    return value -> bits.get(value & 0xFFFF);
+  }
+}
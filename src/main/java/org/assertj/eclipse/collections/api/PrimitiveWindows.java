@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import java.util.Arrays;
+
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
+
+/**
+ * Extracts the few elements surrounding the first mismatch of an ordered comparison, so that the failure message of a
+ * large primitive list only shows the relevant part of the actual and expected elements.
+ */
+final class PrimitiveWindows {
+  /**
+   * The number of elements shown on each side of the mismatch index.
+   */
+  static final int CONTEXT = 3;
+
+  private PrimitiveWindows() {
+    // Do nothing
+  }
+
+  /**
+   * Returns the index of the first element of the window around the given index.
+   *
+   * @param index the index of the mismatch.
+   * @return the index of the first element of the window.
+   */
+  static int from(int index) {
+    return Math.max(0, index - CONTEXT);
+  }
+
+  static boolean[] around(boolean[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static byte[] around(byte[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static char[] around(char[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static double[] around(double[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static float[] around(float[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static int[] around(int[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static long[] around(long[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static short[] around(short[] elements, int index) {
+    return Arrays.copyOfRange(elements, from(index), Math.min(elements.length, index + CONTEXT + 1));
+  }
+
+  static boolean[] around(BooleanList elements, int index) {
+    int from = from(index);
+    boolean[] window = new boolean[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static byte[] around(ByteList elements, int index) {
+    int from = from(index);
+    byte[] window = new byte[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static char[] around(CharList elements, int index) {
+    int from = from(index);
+    char[] window = new char[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static double[] around(DoubleList elements, int index) {
+    int from = from(index);
+    double[] window = new double[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static float[] around(FloatList elements, int index) {
+    int from = from(index);
+    float[] window = new float[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static int[] around(IntList elements, int index) {
+    int from = from(index);
+    int[] window = new int[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static long[] around(LongList elements, int index) {
+    int from = from(index);
+    long[] window = new long[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+
+  static short[] around(ShortList elements, int index) {
+    int from = from(index);
+    short[] window = new short[Math.min(elements.size(), index + CONTEXT + 1) - from];
+    for (int i = 0; i < window.length; i++) {
+      window[i] = elements.get(from + i);
+    }
+    return window;
+  }
+}
@@ -16,6 +16,7 @@
 package org.assertj.eclipse.collections.api;
 
 import org.assertj.core.api.ObjectAssert;
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 
@@ -36,6 +37,10 @@ public class RichIterableAssert<T> extends AbstractRichIterableAssert<RichIterab
 
   @Override
   protected RichIterableAssert<T> newAbstractIterableAssert(Iterable<? extends T> iterable) {
+    if (iterable instanceof LazyIterable<? extends T> lazyIterable) {
+      // Keeps lazy views (e.g. the memoised result of filteredOn) as they are instead of copying them
+      return new RichIterableAssert<>(lazyIterable);
+    }
     return new RichIterableAssert<>(Lists.immutable.ofAll(iterable));
   }
 }
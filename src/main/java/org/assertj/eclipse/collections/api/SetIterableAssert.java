@@ -25,7 +25,7 @@ import org.eclipse.collections.api.set.SetIterable;
  *
  * @param <ELEMENT> the type of elements stored in {@link SetIterable}.
  */
-public class SetIterableAssert<ELEMENT> extends AbstractRichIterableAssert<SetIterableAssert<ELEMENT>, SetIterable<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> {
+public class SetIterableAssert<ELEMENT> extends AbstractSetIterableAssert<SetIterableAssert<ELEMENT>, SetIterable<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> {
   public SetIterableAssert(SetIterable<? extends ELEMENT> elements) {
     super(elements, SetIterableAssert.class);
   }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.multimap.set.SetMultimap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+
+/**
+ * Assertion methods for the {@link SetMultimap} interface. On top of the {@link AbstractMultimapAssert} assertions, the
+ * values of a key can be navigated to with their set assertions.
+ *
+ * @param <KEY>   the type of the keys in the {@link SetMultimap}.
+ * @param <VALUE> the type of the values in the {@link SetMultimap}.
+ */
+public class SetMultimapAssert<KEY, VALUE> extends AbstractMultimapAssert<SetMultimapAssert<KEY, VALUE>, SetMultimap<KEY, VALUE>, KEY, VALUE> {
+  /**
+   * Creates a new {@link SetMultimapAssert}.
+   *
+   * @param actual The actual SetMultimap to assert against
+   */
+  public SetMultimapAssert(SetMultimap<KEY, VALUE> actual) {
+    super(actual, SetMultimapAssert.class);
+  }
+
+  /**
+   * Navigates to the values associated with the given key in the actual {@link SetMultimap}. The returned assertion is
+   * a {@link SortedSetIterableAssert} when the values are sorted, and a {@link SetIterableAssert} otherwise.
+   *
+   * @param key the key whose values to navigate to.
+   * @return a new assertion object on the values of the given key.
+   * @throws AssertionError if the actual {@link SetMultimap} is {@code null}.
+   */
+  @Override
+  public AbstractSetIterableAssert<?, ?, VALUE, ?> valuesForKey(KEY key) {
+    this.isNotNull();
+    SetIterable<VALUE> values = this.actual.get(key);
+    AbstractSetIterableAssert<?, ?, VALUE, ?> valuesAssert = values instanceof SortedSetIterable<VALUE> sortedSet
+      ? new SortedSetIterableAssert<>(sortedSet)
+      : new SetIterableAssert<>(values);
+    return valuesAssert.as(valuesForKeyDescription(key));
+  }
+}
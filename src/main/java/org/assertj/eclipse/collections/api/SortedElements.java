@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.ordered.SortedIterable;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+
+/**
+ * Range and ordering checks of a {@link SortedIterable}, shared by the sorted bag and sorted set assertions. The checks
+ * rely on the ordering of the sorted iterable, so they stop as soon as an element past the range is found. Sorted sets
+ * are navigated through their {@link SortedSet} view instead, so only the elements within the range are visited.
+ */
+final class SortedElements {
+  private SortedElements() {
+    // Do nothing
+  }
+
+  /**
+   * Returns the comparator the given SortedIterable is sorted with.
+   *
+   * @return the comparator of the SortedIterable, or {@code null} if it uses the natural ordering.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Comparator<? super T> comparator(SortedIterable<? extends T> sorted) {
+    return (Comparator<? super T>) (Comparator<?>) sorted.comparator();
+  }
+
+  /**
+   * Checks that the given bounds are not {@code null} and that {@code from} is not greater than {@code to}.
+   */
+  static <T> void checkRange(SortedIterable<? extends T> sorted, T from, T to) {
+    requireNonNull(from, "The lower bound of the range should not be null");
+    requireNonNull(to, "The upper bound of the range should not be null");
+    checkArgument(compare(sorted, from, to) <= 0, "The lower bound <%s> must not be greater than the upper bound <%s>", from, to);
+  }
+
+  /**
+   * Checks whether the given SortedIterable has at least one element within the given bounds (inclusive).
+   *
+   * @return {@code true} if an element is within the range, {@code false} otherwise.
+   */
+  static <T> boolean anyBetween(SortedIterable<? extends T> sorted, T from, T to) {
+    SortedSet<T> sortedSet = sortedSetView(sorted);
+    if (sortedSet != null) {
+      return !sortedSet.subSet(from, to).isEmpty() || sortedSet.contains(to);
+    }
+    for (T element : sorted) {
+      if (compare(sorted, element, from) >= 0) {
+        return compare(sorted, element, to) <= 0;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Counts the elements of the given SortedIterable within the given bounds (inclusive), each occurrence of a duplicate
+   * element being counted.
+   *
+   * @return the number of elements within the range.
+   */
+  static <T> int countBetween(SortedIterable<? extends T> sorted, T from, T to) {
+    SortedSet<T> sortedSet = sortedSetView(sorted);
+    if (sortedSet != null) {
+      // subSet excludes its upper bound
+      return sortedSet.subSet(from, to).size() + (sortedSet.contains(to) ? 1 : 0);
+    }
+    int count = 0;
+    for (T element : sorted) {
+      if (compare(sorted, element, to) > 0) {
+        break;
+      }
+      if (compare(sorted, element, from) >= 0) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the index of the first element of the given SortedIterable that is smaller than the previous one according
+   * to the given comparator. When the given comparator is the one the SortedIterable is sorted with, the elements are
+   * not visited.
+   *
+   * @return the index of the element preceding the first out of order element, or {@code -1} if the elements are sorted
+   * according to the given comparator.
+   */
+  static <T> int indexOfFirstUnsorted(SortedIterable<? extends T> sorted, Comparator<? super T> comparator) {
+    Comparator<? super T> sortedComparator = comparator(sorted);
+    if (comparator.equals(sortedComparator)
+      || (sortedComparator == null && comparator.equals(Comparator.naturalOrder()))) {
+      return -1;
+    }
+
+    Iterator<? extends T> iterator = sorted.iterator();
+    if (!iterator.hasNext()) {
+      return -1;
+    }
+    T previous = iterator.next();
+    for (int index = 0; iterator.hasNext(); index++) {
+      T current = iterator.next();
+      if (comparator.compare(previous, current) > 0) {
+        return index;
+      }
+      previous = current;
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> int compare(SortedIterable<? extends T> sorted, T first, T second) {
+    Comparator<? super T> comparator = comparator(sorted);
+    if (comparator == null) {
+      return ((Comparable<Object>) first).compareTo(second);
+    }
+    return comparator.compare(first, second);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> SortedSet<T> sortedSetView(SortedIterable<? extends T> sorted) {
+    if (sorted instanceof SortedSet<?> sortedSet) {
+      return (SortedSet<T>) sortedSet;
+    }
+    if (sorted instanceof ImmutableSortedSet<?> immutableSortedSet) {
+      return (SortedSet<T>) immutableSortedSet.castToSortedSet();
+    }
+    return null;
+  }
+}
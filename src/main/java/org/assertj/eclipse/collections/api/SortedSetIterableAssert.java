@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSortedAccordingToGivenComparator;
+import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.eclipse.collections.error.ShouldContainRange.shouldContainRange;
+import static org.assertj.eclipse.collections.error.ShouldHaveElementsBetween.shouldHaveElementsBetween;
+import static org.assertj.eclipse.collections.error.ShouldHaveFirst.shouldHaveFirst;
+import static org.assertj.eclipse.collections.error.ShouldHaveLast.shouldHaveLast;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import org.assertj.core.api.ObjectAssert;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+
+/**
+ * Assertion methods for {@link SortedSetIterable} interface. On top of the {@link AbstractSetIterableAssert}
+ * assertions, the range assertions navigate the {@link SortedSet} view of the actual value, so only the elements within
+ * the range are visited.
+ *
+ * @param <ELEMENT> the type of elements stored in {@link SortedSetIterable}.
+ */
+public class SortedSetIterableAssert<ELEMENT> extends AbstractSetIterableAssert<SortedSetIterableAssert<ELEMENT>, SortedSetIterable<? extends ELEMENT>, ELEMENT, ObjectAssert<ELEMENT>> {
+  public SortedSetIterableAssert(SortedSetIterable<? extends ELEMENT> elements) {
+    super(elements, SortedSetIterableAssert.class);
+  }
+
+  /**
+   * Verifies that the first element of the actual SortedSetIterable, according to its comparator, is equal to the given one.
+   *
+   * @param expected the expected first element.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual SortedSetIterable is {@code null}, empty or does not start with the given element.
+   */
+  public SortedSetIterableAssert<ELEMENT> hasFirst(ELEMENT expected) {
+    return executeAssertion(() -> {
+      isNotEmpty();
+
+      ELEMENT first = actual.getFirst();
+      if (Objects.equals(first, expected)) {
+        return;
+      }
+
+      throw assertionError(shouldHaveFirst(actual, expected, first));
+    });
+  }
+
+  /**
+   * Verifies that the last element of the actual SortedSetIterable, according to its comparator, is equal to the given one.
+   *
+   * @param expected the expected last element.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual SortedSetIterable is {@code null}, empty or does not end with the given element.
+   */
+  public SortedSetIterableAssert<ELEMENT> hasLast(ELEMENT expected) {
+    return executeAssertion(() -> {
+      isNotEmpty();
+
+      ELEMENT last = actual.getLast();
+      if (Objects.equals(last, expected)) {
+        return;
+      }
+
+      throw assertionError(shouldHaveLast(actual, expected, last));
+    });
+  }
+
+  /**
+   * Verifies that the actual SortedSetIterable contains at least one element between the given bounds (inclusive), according to
+   * its comparator.
+   *
+   * @param from the lower bound of the range (inclusive).
+   * @param to   the upper bound of the range (inclusive).
+   * @return {@code this} assertion object.
+   * @throws NullPointerException     if one of the bounds is {@code null}.
+   * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+   * @throws AssertionError           if the actual SortedSetIterable is {@code null} or has no element within the range.
+   */
+  public SortedSetIterableAssert<ELEMENT> containsRange(ELEMENT from, ELEMENT to) {
+    return executeAssertion(() -> {
+      isNotNull();
+      SortedElements.checkRange(actual, from, to);
+
+      if (SortedElements.anyBetween(actual, from, to)) {
+        return;
+      }
+
+      throw assertionError(shouldContainRange(actual, from, to));
+    });
+  }
+
+  /**
+   * Verifies that the actual SortedSetIterable contains exactly the given number of elements between the given bounds
+   * (inclusive), according to its comparator.
+   *
+   * @param from  the lower bound of the range (inclusive).
+   * @param to    the upper bound of the range (inclusive).
+   * @param count the expected number of elements within the range.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException     if one of the bounds is {@code null}.
+   * @throws IllegalArgumentException if {@code from} is greater than {@code to} or if {@code count} is negative.
+   * @throws AssertionError           if the actual SortedSetIterable is {@code null} or does not have {@code count} elements
+   *                                  within the range.
+   */
+  public SortedSetIterableAssert<ELEMENT> hasElementsBetween(ELEMENT from, ELEMENT to, int count) {
+    return executeAssertion(() -> {
+      isNotNull();
+      SortedElements.checkRange(actual, from, to);
+      checkArgument(count >= 0, "The expected count must not be negative but was <%s>", count);
+
+      int actualCount = SortedElements.countBetween(actual, from, to);
+      if (actualCount == count) {
+        return;
+      }
+
+      throw assertionError(shouldHaveElementsBetween(actual, from, to, count, actualCount));
+    });
+  }
+
+  /**
+   * Verifies that the elements of the actual SortedSetIterable are sorted according to the given comparator. When the given
+   * comparator is the one the actual SortedSetIterable is sorted with, the assertion passes without visiting the elements.
+   *
+   * @param comparator the comparator to check the ordering against.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError       if the actual SortedSetIterable is {@code null} or is not sorted according to the given
+   *                              comparator.
+   */
+  public SortedSetIterableAssert<ELEMENT> isSortedAccordingTo(Comparator<? super ELEMENT> comparator) {
+    return executeAssertion(() -> {
+      isNotNull();
+      requireNonNull(comparator, "The comparator should not be null");
+
+      int index = SortedElements.indexOfFirstUnsorted(actual, comparator);
+      if (index == -1) {
+        return;
+      }
+
+      throw assertionError(shouldBeSortedAccordingToGivenComparator(index, actual, comparator));
+    });
+  }
+
+  @Override
+  protected ObjectAssert<ELEMENT> toAssert(ELEMENT value) {
+    return new ObjectAssert<>(value);
+  }
+
+  @Override
+  protected SortedSetIterableAssert<ELEMENT> newAbstractIterableAssert(Iterable<? extends ELEMENT> iterable) {
+    Comparator<? super ELEMENT> comparator = SortedElements.comparator(actual);
+    ImmutableSortedSet<? extends ELEMENT> elements = SortedSets.immutable.ofAll(comparator, iterable);
+    return new SortedSetIterableAssert<>(elements);
+  }
+}
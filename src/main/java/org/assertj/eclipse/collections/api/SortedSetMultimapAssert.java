@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api;
+
+import org.eclipse.collections.api.multimap.sortedset.SortedSetMultimap;
+
+/**
+ * Assertion methods for the {@link SortedSetMultimap} interface. On top of the
+ * {@link AbstractOrderedIterableMultimapAssert} assertions, the values of a key can be navigated to with their sorted
+ * set assertions. The values of each key are always sorted according to the comparator of the multimap, so
+ * {@link #allValueListsSorted(java.util.Comparator)} is meant to check them against another order.
+ *
+ * @param <KEY>   the type of the keys in the {@link SortedSetMultimap}.
+ * @param <VALUE> the type of the values in the {@link SortedSetMultimap}.
+ */
+public class SortedSetMultimapAssert<KEY, VALUE> extends AbstractOrderedIterableMultimapAssert<SortedSetMultimapAssert<KEY, VALUE>, SortedSetMultimap<KEY, VALUE>, KEY, VALUE> {
+  /**
+   * Creates a new {@link SortedSetMultimapAssert}.
+   *
+   * @param actual The actual SortedSetMultimap to assert against
+   */
+  public SortedSetMultimapAssert(SortedSetMultimap<KEY, VALUE> actual) {
+    super(actual, SortedSetMultimapAssert.class);
+  }
+
+  /**
+   * Navigates to the values associated with the given key in the actual {@link SortedSetMultimap}.
+   *
+   * @param key the key whose values to navigate to.
+   * @return a new assertion object on the values of the given key.
+   * @throws AssertionError if the actual {@link SortedSetMultimap} is {@code null}.
+   */
+  @Override
+  public SortedSetIterableAssert<VALUE> valuesForKey(KEY key) {
+    this.isNotNull();
+    return new SortedSetIterableAssert<>(this.actual.get(key)).as(valuesForKeyDescription(key));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import static java.util.Objects.requireNonNull;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Decorates an error message to indicate that the scan of the actual value stopped once the configured failure cap was
+ * reached, so the reported offenders are not necessarily all of them.
+ */
+public class ScanTruncated implements ErrorMessageFactory {
+  private final ErrorMessageFactory errorMessageFactory;
+  private final int offendersFound;
+
+  /**
+   * Creates a new {@code ScanTruncated}.
+   *
+   * @param errorMessageFactory the error message describing the offenders that were found.
+   * @param offendersFound      the number of offenders found before the scan stopped.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory scanTruncated(ErrorMessageFactory errorMessageFactory, int offendersFound) {
+    return new ScanTruncated(errorMessageFactory, offendersFound);
+  }
+
+  private ScanTruncated(ErrorMessageFactory errorMessageFactory, int offendersFound) {
+    this.errorMessageFactory = requireNonNull(errorMessageFactory, "The error message factory should not be null");
+    this.offendersFound = offendersFound;
+  }
+
+  @Override
+  public String create(Description d, Representation p) {
+    return truncated(errorMessageFactory.create(d, p));
+  }
+
+  @Override
+  public String create(Description d) {
+    return truncated(errorMessageFactory.create(d));
+  }
+
+  @Override
+  public String create() {
+    return truncated(errorMessageFactory.create());
+  }
+
+  private String truncated(String message) {
+    return message
+      + "%nThe scan was truncated after finding %s offending element(s), the remaining elements were not checked."
+        .formatted(offendersFound);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Triple;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two multimaps are equal failed. Rather than
+ * printing both multimaps, the message lists the first differing keys and counts the others, so it stays readable for
+ * large multimaps.
+ */
+public class ShouldBeEqualToMultimap extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldBeEqualToMultimap}.
+   *
+   * @param missingKeyCount         the number of expected keys missing from actual.
+   * @param missingKeys             the reported keys missing from actual.
+   * @param unexpectedKeyCount      the number of keys of actual that were not expected.
+   * @param unexpectedKeys          the reported keys of actual that were not expected.
+   * @param differentValuesKeyCount the number of keys present on both sides whose values differ.
+   * @param differentValues         the reported keys whose values differ, with the values that were not found and the
+   *                                values that were not expected.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeEqualToMultimap(int missingKeyCount, RichIterable<?> missingKeys,
+                                                            int unexpectedKeyCount, RichIterable<?> unexpectedKeys,
+                                                            int differentValuesKeyCount,
+                                                            RichIterable<? extends Triple<?, ?, ?>> differentValues) {
+    MutableList<Object> arguments = Lists.mutable.empty();
+    StringBuilder format = new StringBuilder("%nExpecting actual multimap to be equal to the given multimap but %s key(s) differ:");
+    int differingKeyCount = missingKeyCount + unexpectedKeyCount + differentValuesKeyCount;
+    arguments.add(differingKeyCount);
+    if (missingKeyCount > 0) {
+      format.append("%n- %s key(s) could not be found: %s");
+      arguments.add(missingKeyCount);
+      arguments.add(missingKeys);
+    }
+    if (unexpectedKeyCount > 0) {
+      format.append("%n- %s key(s) were unexpected: %s");
+      arguments.add(unexpectedKeyCount);
+      arguments.add(unexpectedKeys);
+    }
+    if (differentValuesKeyCount > 0) {
+      format.append("%n- %s key(s) have different values:");
+      arguments.add(differentValuesKeyCount);
+      differentValues.forEach(difference -> {
+        format.append("%n    %s: could not find %s and did not expect %s");
+        arguments.add(difference.getOne());
+        arguments.add(difference.getTwo());
+        arguments.add(difference.getThree());
+      });
+    }
+    int reportedKeyCount = missingKeys.size() + unexpectedKeys.size() + differentValues.size();
+    if (reportedKeyCount < differingKeyCount) {
+      format.append("%nOnly the first %s differing key(s) are shown.");
+      arguments.add(reportedKeyCount);
+    }
+    return new ShouldBeEqualToMultimap(format.toString(), arguments.toArray());
+  }
+
+  private ShouldBeEqualToMultimap(String format, Object[] arguments) {
+    super(format, arguments);
+  }
+}
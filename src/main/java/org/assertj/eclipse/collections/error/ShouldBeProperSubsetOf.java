@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a set is a proper subset of another set
+ * failed.
+ */
+public class ShouldBeProperSubsetOf extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldBeProperSubsetOf} for an actual set containing elements that the other set does not.
+   *
+   * @param actual     the actual value in the failed assertion.
+   * @param other      the set {@code actual} should be a proper subset of.
+   * @param unexpected the elements of {@code actual} not found in {@code other}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeProperSubsetOf(Object actual, Object other, Iterable<?> unexpected) {
+    return new ShouldBeProperSubsetOf("%nExpecting actual:%n  %s%nto be a proper subset of:%n  %s%nbut found these extra elements:%n  %s",
+      actual, other, unexpected);
+  }
+
+  /**
+   * Creates a new {@code ShouldBeProperSubsetOf} for an actual set containing the same elements as the other set.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param other  the set {@code actual} should be a proper subset of.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeProperSubsetOf(Object actual, Object other) {
+    return new ShouldBeProperSubsetOf("%nExpecting actual:%n  %s%nto be a proper subset of:%n  %s%nbut both sets contain the same elements",
+      actual, other);
+  }
+
+  private ShouldBeProperSubsetOf(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
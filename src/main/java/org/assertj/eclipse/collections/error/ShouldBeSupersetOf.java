@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a set is a superset of another set failed.
+ */
+public class ShouldBeSupersetOf extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldBeSupersetOf}.
+   *
+   * @param actual  the actual value in the failed assertion.
+   * @param other   the set {@code actual} should be a superset of.
+   * @param missing the elements of {@code other} not found in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSupersetOf(Object actual, Object other, Iterable<?> missing) {
+    return new ShouldBeSupersetOf(actual, other, missing);
+  }
+
+  private ShouldBeSupersetOf(Object actual, Object other, Iterable<?> missing) {
+    super("%nExpecting actual:%n  %s%nto be a superset of:%n  %s%nbut could not find the following element(s):%n  %s",
+      actual, other, missing);
+  }
+}
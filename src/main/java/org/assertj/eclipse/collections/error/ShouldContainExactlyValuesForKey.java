@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the values of one key of a multimap, in order,
+ * failed.
+ */
+public class ShouldContainExactlyValuesForKey extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldContainExactlyValuesForKey}.
+   *
+   * @param key            the key whose values were checked.
+   * @param actualValues   the actual values of the key.
+   * @param expectedValues the expected values of the key, in order.
+   * @param index          the first index where the values differ.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainExactlyValuesForKey(Object key, Object actualValues,
+                                                                     Object expectedValues, int index) {
+    return new ShouldContainExactlyValuesForKey(key, actualValues, expectedValues, index);
+  }
+
+  private ShouldContainExactlyValuesForKey(Object key, Object actualValues, Object expectedValues, int index) {
+    super("%nExpecting the values for key %s:%n  %s%nto contain exactly (and in same order):%n  %s%nbut they first differ at index %s",
+      key, actualValues, expectedValues, index);
+  }
+}
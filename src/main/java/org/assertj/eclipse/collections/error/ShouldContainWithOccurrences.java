@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a bag contains elements with given
+ * occurrences failed.
+ */
+public class ShouldContainWithOccurrences extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldContainWithOccurrences}.
+   *
+   * @param actual   the actual value in the failed assertion.
+   * @param expected the expected occurrences of the elements that did not match.
+   * @param found    the occurrences found in {@code actual} for the same elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainWithOccurrences(Object actual, Object expected, Object found) {
+    return new ShouldContainWithOccurrences(actual, expected, found);
+  }
+
+  private ShouldContainWithOccurrences(Object actual, Object expected, Object found) {
+    super("%nExpecting actual:%n  %s%nto contain the following element(s) with these occurrences:%n  %s%nbut found:%n  %s",
+      actual, expected, found);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that all the elements of a primitive iterable
+ * are within a range failed.
+ */
+public class ShouldHaveAllElementsInRange extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveAllElementsInRange}.
+   *
+   * @param actual    the actual value in the failed assertion.
+   * @param min       the lower bound of the range (inclusive).
+   * @param max       the upper bound of the range (inclusive).
+   * @param offenders the elements of {@code actual} outside the range.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAllElementsInRange(Object actual, Object min, Object max,
+                                                                 Object offenders) {
+    return new ShouldHaveAllElementsInRange(actual, min, max, offenders);
+  }
+
+  private ShouldHaveAllElementsInRange(Object actual, Object min, Object max, Object offenders) {
+    super("%nExpecting all elements of actual:%n  %s%nto be between %s and %s (inclusive) but these were not:%n  %s",
+      actual, min, max, offenders);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the least frequent elements of a bag failed.
+ */
+public class ShouldHaveBottomOccurrences extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveBottomOccurrences}.
+   *
+   * @param actual   the actual value in the failed assertion.
+   * @param count    the number of least frequent elements that were checked.
+   * @param expected the expected least frequent elements.
+   * @param found    the least frequent elements of {@code actual} with their occurrences.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveBottomOccurrences(Object actual, int count, Object expected,
+                                                                Object found) {
+    return new ShouldHaveBottomOccurrences(actual, count, expected, found);
+  }
+
+  private ShouldHaveBottomOccurrences(Object actual, int count, Object expected, Object found) {
+    super("%nExpecting the %s least frequent element(s) of actual:%n  %s%nto be:%n  %s%nbut were:%n  %s",
+      count, actual, expected, found);
+  }
+}
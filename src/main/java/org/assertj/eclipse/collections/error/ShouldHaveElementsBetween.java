@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of elements of a sorted iterable
+ * within a range failed.
+ */
+public class ShouldHaveElementsBetween extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveElementsBetween}.
+   *
+   * @param actual        the actual value in the failed assertion.
+   * @param from          the lower bound of the range (inclusive).
+   * @param to            the upper bound of the range (inclusive).
+   * @param expectedCount the expected number of elements within the range.
+   * @param actualCount   the number of elements of {@code actual} within the range.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveElementsBetween(Object actual, Object from, Object to, int expectedCount,
+                                                              int actualCount) {
+    return new ShouldHaveElementsBetween(actual, from, to, expectedCount, actualCount);
+  }
+
+  private ShouldHaveElementsBetween(Object actual, Object from, Object to, int expectedCount, int actualCount) {
+    super("%nExpecting actual:%n  %s%nto have %s element(s) between %s and %s (inclusive) but had %s",
+      actual, expectedCount, from, to, actualCount);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the order of the elements of a primitive list
+ * failed. Only the elements around the first mismatch are reported, so that large lists keep a readable message.
+ */
+public class ShouldHaveElementsInOrder extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveElementsInOrder} for an assertion verifying all the elements of the list.
+   *
+   * @param actualSize     the number of actual elements.
+   * @param expectedSize   the number of expected elements.
+   * @param index          the first index where the elements differ.
+   * @param windowStart    the index of the first element of both windows.
+   * @param actualWindow   the actual elements around the mismatch.
+   * @param expectedWindow the expected elements around the mismatch.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainExactlyInOrder(int actualSize, int expectedSize, int index,
+                                                                int windowStart, Object actualWindow,
+                                                                Object expectedWindow) {
+    return new ShouldHaveElementsInOrder("to contain exactly (and in same order) the", actualSize, expectedSize, index,
+      windowStart, actualWindow, windowStart, expectedWindow);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveElementsInOrder} for an assertion verifying the last elements of the list.
+   *
+   * @param actualSize        the number of actual elements.
+   * @param expectedSize      the number of expected elements.
+   * @param index             the first index of the actual list where the elements differ.
+   * @param actualWindowStart the index of the first element of the actual window.
+   * @param actualWindow      the actual elements around the mismatch.
+   * @param expectedWindow    the expected elements around the mismatch.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldEndWith(int actualSize, int expectedSize, int index, int actualWindowStart,
+                                                  Object actualWindow, Object expectedWindow) {
+    return new ShouldHaveElementsInOrder("to end with the", actualSize, expectedSize, index, actualWindowStart,
+      actualWindow, actualWindowStart - actualSize + expectedSize, expectedWindow);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveElementsInOrder} for an assertion verifying the first elements of the list.
+   *
+   * @param actualSize     the number of actual elements.
+   * @param expectedSize   the number of expected elements.
+   * @param index          the first index where the elements differ.
+   * @param windowStart    the index of the first element of both windows.
+   * @param actualWindow   the actual elements around the mismatch.
+   * @param expectedWindow the expected elements around the mismatch.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldStartWith(int actualSize, int expectedSize, int index, int windowStart,
+                                                    Object actualWindow, Object expectedWindow) {
+    return new ShouldHaveElementsInOrder("to start with the", actualSize, expectedSize, index, windowStart,
+      actualWindow, windowStart, expectedWindow);
+  }
+
+  private ShouldHaveElementsInOrder(String expectation, int actualSize, int expectedSize, int index,
+                                    int actualWindowStart, Object actualWindow, int expectedWindowStart,
+                                    Object expectedWindow) {
+    super("%nExpecting actual (%s elements) " + expectation + " %s given elements, but they first differ at index %s.%n"
+        + "Actual elements from index %s:%n  %s%nExpected elements from index %s:%n  %s",
+      actualSize, expectedSize, index, actualWindowStart, actualWindow, expectedWindowStart, expectedWindow);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies a percentile of the number of values held by the
+ * keys of a multimap failed.
+ */
+public class ShouldHaveKeyCardinalityPercentileAtMost extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveKeyCardinalityPercentileAtMost}.
+   *
+   * @param actual           the actual value in the failed assertion.
+   * @param percentile       the percentile that was checked.
+   * @param boundary         the maximum number of values allowed at that percentile.
+   * @param actualPercentile the actual number of values per key at that percentile.
+   * @param worstKeys        the keys holding the most values, paired with their number of values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveKeyCardinalityPercentileAtMost(Object actual, double percentile,
+                                                                             int boundary, int actualPercentile,
+                                                                             Object worstKeys) {
+    return new ShouldHaveKeyCardinalityPercentileAtMost(actual, percentile, boundary, actualPercentile, worstKeys);
+  }
+
+  private ShouldHaveKeyCardinalityPercentileAtMost(Object actual, double percentile, int boundary, int actualPercentile,
+                                                   Object worstKeys) {
+    super("%nExpecting the percentile %s of the number of values per key of actual:%n  %s%nto be at most %s but was %s, the keys holding the most values being:%n  %s",
+      percentile, actual, boundary, actualPercentile, worstKeys);
+  }
+}
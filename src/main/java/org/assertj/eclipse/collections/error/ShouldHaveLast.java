@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the last element of a sorted iterable failed.
+ */
+public class ShouldHaveLast extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveLast}.
+   *
+   * @param actual     the actual value in the failed assertion.
+   * @param expected   the expected last element.
+   * @param actualLast the last element of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLast(Object actual, Object expected, Object actualLast) {
+    return new ShouldHaveLast(actual, expected, actualLast);
+  }
+
+  private ShouldHaveLast(Object actual, Object expected, Object actualLast) {
+    super("%nExpecting last element of:%n  %s%nto be:%n  %s%nbut was:%n  %s", actual, expected, actualLast);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the highest number of occurrences of the
+ * elements of a bag failed.
+ */
+public class ShouldHaveMaxOccurrencesAtMost extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveMaxOccurrencesAtMost}.
+   *
+   * @param actual      the actual value in the failed assertion.
+   * @param boundary    the maximum number of occurrences allowed.
+   * @param element     the most frequent element of {@code actual}.
+   * @param occurrences the number of occurrences of the most frequent element.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMaxOccurrencesAtMost(Object actual, int boundary, Object element,
+                                                                   int occurrences) {
+    return new ShouldHaveMaxOccurrencesAtMost(actual, boundary, element, occurrences);
+  }
+
+  private ShouldHaveMaxOccurrencesAtMost(Object actual, int boundary, Object element, int occurrences) {
+    super("%nExpecting no element of actual:%n  %s%nto occur more than %s time(s) but %s occurred %s time(s)",
+      actual, boundary, element, occurrences);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the highest number of values held by a key of a
+ * multimap failed.
+ */
+public class ShouldHaveMaxValuesPerKeyAtMost extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveMaxValuesPerKeyAtMost}.
+   *
+   * @param actual        the actual value in the failed assertion.
+   * @param boundary      the maximum number of values allowed per key.
+   * @param offenderCount the number of keys holding more values than allowed.
+   * @param worstKeys     the keys holding the most values, paired with their number of values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMaxValuesPerKeyAtMost(Object actual, int boundary, int offenderCount,
+                                                                    Object worstKeys) {
+    return new ShouldHaveMaxValuesPerKeyAtMost(actual, boundary, offenderCount, worstKeys);
+  }
+
+  private ShouldHaveMaxValuesPerKeyAtMost(Object actual, int boundary, int offenderCount, Object worstKeys) {
+    super("%nExpecting every key of actual:%n  %s%nto have at most %s value(s) but %s key(s) had more, the worst being:%n  %s",
+      actual, boundary, offenderCount, worstKeys);
+  }
+}
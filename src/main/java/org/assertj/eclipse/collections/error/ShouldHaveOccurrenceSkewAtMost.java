@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the ratio between the highest and the lowest
+ * number of occurrences of the elements of a bag failed.
+ */
+public class ShouldHaveOccurrenceSkewAtMost extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveOccurrenceSkewAtMost}.
+   *
+   * @param actual         the actual value in the failed assertion.
+   * @param ratio          the maximum ratio allowed.
+   * @param actualRatio    the ratio between the highest and the lowest number of occurrences in {@code actual}.
+   * @param maxElement     the most frequent element of {@code actual}.
+   * @param maxOccurrences the number of occurrences of the most frequent element.
+   * @param minElement     the least frequent element of {@code actual}.
+   * @param minOccurrences the number of occurrences of the least frequent element.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveOccurrenceSkewAtMost(Object actual, double ratio, double actualRatio,
+                                                                   Object maxElement, int maxOccurrences,
+                                                                   Object minElement, int minOccurrences) {
+    return new ShouldHaveOccurrenceSkewAtMost(actual, ratio, actualRatio, maxElement, maxOccurrences, minElement,
+      minOccurrences);
+  }
+
+  private ShouldHaveOccurrenceSkewAtMost(Object actual, double ratio, double actualRatio, Object maxElement,
+                                         int maxOccurrences, Object minElement, int minOccurrences) {
+    super("%nExpecting the occurrence skew of actual:%n  %s%nto be at most %s but was %s (%s occurred %s time(s), %s occurred %s time(s))",
+      actual, ratio, actualRatio, maxElement, maxOccurrences, minElement, minOccurrences);
+  }
+}
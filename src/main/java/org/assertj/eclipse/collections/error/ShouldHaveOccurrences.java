@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the number of occurrences of an element in a bag
+ * failed.
+ */
+public class ShouldHaveOccurrences extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveOccurrences}.
+   *
+   * @param actual            the actual value in the failed assertion.
+   * @param element           the element whose occurrences were checked.
+   * @param expected          the expected number of occurrences.
+   * @param actualOccurrences the number of occurrences of the element in {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveOccurrences(Object actual, Object element, int expected,
+                                                          int actualOccurrences) {
+    return new ShouldHaveOccurrences(actual, element, expected, actualOccurrences);
+  }
+
+  private ShouldHaveOccurrences(Object actual, Object element, int expected, int actualOccurrences) {
+    super("%nExpecting actual:%n  %s%nto contain %s exactly %s time(s) but found it %s time(s)",
+      actual, element, expected, actualOccurrences);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two bags have the same occurrences of each
+ * element failed.
+ */
+public class ShouldHaveSameOccurrencesAs extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveSameOccurrencesAs}.
+   *
+   * @param actual   the actual value in the failed assertion.
+   * @param other    the bag {@code actual} was compared to.
+   * @param expected the occurrences in {@code other} of the elements that did not match.
+   * @param found    the occurrences in {@code actual} of the same elements.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameOccurrencesAs(Object actual, Object other, Object expected,
+                                                                Object found) {
+    return new ShouldHaveSameOccurrencesAs(actual, other, expected, found);
+  }
+
+  private ShouldHaveSameOccurrencesAs(Object actual, Object other, Object expected, Object found) {
+    super("%nExpecting actual:%n  %s%nto have the same occurrences as:%n  %s%nbut these element(s) were expected:%n  %s%nand were found:%n  %s",
+      actual, other, expected, found);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import java.util.Comparator;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that the values of one key of a multimap are
+ * sorted failed.
+ */
+public class ShouldHaveSortedValuesForKey extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveSortedValuesForKey} for values expected in their natural order.
+   *
+   * @param key    the key whose values were checked.
+   * @param values the actual values of the key.
+   * @param index  the index of the first value greater than the value following it.
+   * @param value  the value at {@code index}.
+   * @param next   the value at {@code index + 1}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSortedValuesForKey(Object key, Object values, int index, Object value,
+                                                                 Object next) {
+    return new ShouldHaveSortedValuesForKey("", key, values, index, value, next);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveSortedValuesForKey} for values expected in the order of the given comparator.
+   *
+   * @param key        the key whose values were checked.
+   * @param values     the actual values of the key.
+   * @param index      the index of the first value greater than the value following it.
+   * @param value      the value at {@code index}.
+   * @param next       the value at {@code index + 1}.
+   * @param comparator the comparator defining the expected order.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSortedValuesForKey(Object key, Object values, int index, Object value,
+                                                                 Object next, Comparator<?> comparator) {
+    return new ShouldHaveSortedValuesForKey(" according to the given comparator (%s)".formatted(comparator), key, values,
+      index, value, next);
+  }
+
+  private ShouldHaveSortedValuesForKey(String order, Object key, Object values, int index, Object value, Object next) {
+    super("%nExpecting the values for key %s:%n  %s%nto be sorted" + order.replace("%", "%%")
+        + " but element %s:%n  %s%nis greater than element %s:%n  %s",
+      key, values, index, value, index + 1, next);
+  }
+}
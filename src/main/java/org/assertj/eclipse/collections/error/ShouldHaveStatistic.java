@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies a summary statistic (sum, minimum, maximum or
+ * average) of a primitive iterable failed.
+ */
+public class ShouldHaveStatistic extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveStatistic} for an assertion verifying the average of the elements.
+   *
+   * @param actual        the actual value in the failed assertion.
+   * @param expected      the expected average.
+   * @param offset        the accepted offset around the expected average.
+   * @param actualAverage the average of the elements of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveAverageCloseTo(Object actual, double expected, Object offset,
+                                                             double actualAverage) {
+    return new ShouldHaveStatistic(
+      "%nExpecting the average of actual:%n  %s%nto be close to:%n  %s%nwithin %s but was:%n  %s%ndifference was %s",
+      actual, expected, offset, actualAverage, Math.abs(actualAverage - expected));
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveStatistic} for an assertion verifying the largest element.
+   *
+   * @param actual    the actual value in the failed assertion.
+   * @param expected  the expected largest element.
+   * @param actualMax the largest element of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMax(Object actual, Object expected, Object actualMax) {
+    return new ShouldHaveStatistic("%nExpecting the largest element of actual:%n  %s%nto be:%n  %s%nbut was:%n  %s",
+      actual, expected, actualMax);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveStatistic} for an assertion verifying the smallest element.
+   *
+   * @param actual    the actual value in the failed assertion.
+   * @param expected  the expected smallest element.
+   * @param actualMin the smallest element of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMin(Object actual, Object expected, Object actualMin) {
+    return new ShouldHaveStatistic("%nExpecting the smallest element of actual:%n  %s%nto be:%n  %s%nbut was:%n  %s",
+      actual, expected, actualMin);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveStatistic} for an assertion verifying the sum of the elements.
+   *
+   * @param actual    the actual value in the failed assertion.
+   * @param expected  the expected sum.
+   * @param actualSum the sum of the elements of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSum(Object actual, Object expected, Object actualSum) {
+    return new ShouldHaveStatistic("%nExpecting the sum of actual:%n  %s%nto be:%n  %s%nbut was:%n  %s",
+      actual, expected, actualSum);
+  }
+
+  /**
+   * Creates a new {@code ShouldHaveStatistic} for an assertion verifying the sum of the elements within an offset.
+   *
+   * @param actual    the actual value in the failed assertion.
+   * @param expected  the expected sum.
+   * @param offset    the accepted offset around the expected sum.
+   * @param actualSum the sum of the elements of {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSumCloseTo(Object actual, double expected, Object offset,
+                                                         double actualSum) {
+    return new ShouldHaveStatistic(
+      "%nExpecting the sum of actual:%n  %s%nto be close to:%n  %s%nwithin %s but was:%n  %s%ndifference was %s",
+      actual, expected, offset, actualSum, Math.abs(actualSum - expected));
+  }
+
+  private ShouldHaveStatistic(String format, Object... arguments) {
+    super(format, arguments);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the range of the number of values held by the
+ * keys of a multimap failed.
+ */
+public class ShouldHaveValuesPerKeyBetween extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldHaveValuesPerKeyBetween}.
+   *
+   * @param actual        the actual value in the failed assertion.
+   * @param lowerBoundary the minimum number of values required per key (inclusive).
+   * @param upperBoundary the maximum number of values allowed per key (inclusive).
+   * @param offenderCount the number of keys holding a number of values outside of the range.
+   * @param worstKeys     the keys furthest from the range, paired with their number of values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveValuesPerKeyBetween(Object actual, int lowerBoundary, int upperBoundary,
+                                                                  int offenderCount, Object worstKeys) {
+    return new ShouldHaveValuesPerKeyBetween(actual, lowerBoundary, upperBoundary, offenderCount, worstKeys);
+  }
+
+  private ShouldHaveValuesPerKeyBetween(Object actual, int lowerBoundary, int upperBoundary, int offenderCount,
+                                        Object worstKeys) {
+    super("%nExpecting every key of actual:%n  %s%nto have between %s and %s value(s) but %s key(s) did not, the worst being:%n  %s",
+      actual, lowerBoundary, upperBoundary, offenderCount, worstKeys);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two sets have at least one element in
+ * common failed.
+ */
+public class ShouldIntersect extends BasicErrorMessageFactory {
+  /**
+   * Creates a new {@code ShouldIntersect}.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param other  the set {@code actual} should have at least one element in common with.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldIntersect(Object actual, Object other) {
+    return new ShouldIntersect(actual, other);
+  }
+
+  private ShouldIntersect(Object actual, Object other) {
+    super("%nExpecting actual:%n  %s%nto have at least one element in common with:%n  %s%nbut none was found", actual, other);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.bag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.primitive.ObjectIntMaps;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectIntMap;
+import org.junit.jupiter.api.Test;
+
+class BagAssert_ContainsWithOccurrences_Test {
+  @Test
+  void passes() {
+    ImmutableBag<String> bag = createBag();
+    ImmutableObjectIntMap<String> expected = ObjectIntMaps.immutable.<String>empty().newWithKeyValue("TOS", 2).newWithKeyValue("VOY", 0);
+    assertThatNoException().isThrownBy(() -> new BagAssert<>(bag).containsWithOccurrences(expected));
+  }
+
+  @Test
+  void fails() {
+    ImmutableBag<String> bag = createBag();
+    ImmutableObjectIntMap<String> expected = ObjectIntMaps.immutable.<String>empty().newWithKeyValue("TOS", 2).newWithKeyValue("DS9", 1);
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<>(bag).containsWithOccurrences(expected))
+      .withMessageContaining("to contain the following element(s) with these occurrences:%n  {DS9=1}%nbut found:%n  {DS9=2}".formatted());
+  }
+
+  @Test
+  void failsNullInput() {
+    ImmutableObjectIntMap<String> expected = ObjectIntMaps.immutable.<String>empty().newWithKeyValue("TOS", 2);
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<String>(null).containsWithOccurrences(expected))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullExpected() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new BagAssert<>(bag).containsWithOccurrences(null))
+      .withMessageContaining("The expected occurrences should not be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    ImmutableBag<String> bag = createBag();
+    ImmutableObjectIntMap<String> expected = ObjectIntMaps.immutable.<String>empty().newWithKeyValue("TOS", 2);
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(bag).containsWithOccurrences(expected));
+  }
+
+  private static ImmutableBag<String> createBag() {
+    return Bags.immutable.of("TOS", "TOS", "TNG", "DS9", "DS9");
+  }
+}
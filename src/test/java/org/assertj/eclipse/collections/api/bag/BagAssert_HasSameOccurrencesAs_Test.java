@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.bag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.junit.jupiter.api.Test;
+
+class BagAssert_HasSameOccurrencesAs_Test {
+  @Test
+  void passes() {
+    ImmutableBag<String> bag = createBag();
+    assertThatNoException().isThrownBy(() -> new BagAssert<>(bag).hasSameOccurrencesAs(Bags.mutable.of("DS9", "TNG", "TOS", "DS9", "TOS")));
+  }
+
+  @Test
+  void failsDifferentOccurrences() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<>(bag).hasSameOccurrencesAs(Bags.immutable.of("TOS", "TNG", "TNG", "DS9", "DS9")))
+      .withMessageContaining("but these element(s) were expected:%n  {".formatted())
+      .withMessageContaining("TNG=2")
+      .withMessageContaining("TOS=1");
+  }
+
+  @Test
+  void failsExtraElement() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<>(bag).hasSameOccurrencesAs(Bags.immutable.of("TOS", "TOS", "DS9", "DS9")))
+      .withMessageContaining("but these element(s) were expected:%n  {TNG=0}%nand were found:%n  {TNG=1}".formatted());
+  }
+
+  @Test
+  void failsNullInput() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<String>(null).hasSameOccurrencesAs(createBag()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullBag() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new BagAssert<>(bag).hasSameOccurrencesAs(null))
+      .withMessageContaining("The bag to compare to should not be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    ImmutableBag<String> bag = createBag();
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(bag).hasSameOccurrencesAs(createBag()));
+  }
+
+  private static ImmutableBag<String> createBag() {
+    return Bags.immutable.of("TOS", "TOS", "TNG", "DS9", "DS9");
+  }
+}
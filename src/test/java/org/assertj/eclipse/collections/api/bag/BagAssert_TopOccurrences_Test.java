@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.bag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples.pair;
+
+import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.factory.Bags;
+import org.junit.jupiter.api.Test;
+
+class BagAssert_TopOccurrences_Test {
+  @Test
+  void passes() {
+    ImmutableBag<String> bag = createBag();
+    assertThatNoException().isThrownBy(() -> new BagAssert<>(bag).topOccurrences(2)
+      .containsExactly(pair("TOS", 3), pair("DS9", 2)));
+  }
+
+  @Test
+  void passesWithTies() {
+    ImmutableBag<String> bag = Bags.immutable.of("TOS", "TOS", "TNG", "TNG", "DS9");
+    assertThatNoException().isThrownBy(() -> new BagAssert<>(bag).topOccurrences(1).hasSize(2));
+  }
+
+  @Test
+  void failsNavigatedAssertion() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<>(bag).topOccurrences(1).containsExactly(pair("DS9", 2)))
+      .withMessageContaining("top 1 occurrences");
+  }
+
+  @Test
+  void failsNullInput() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<String>(null).topOccurrences(1))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNegativeCount() {
+    ImmutableBag<String> bag = createBag();
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> new BagAssert<>(bag).topOccurrences(-1))
+      .withMessageContaining("The number of elements must not be negative but was <-1>");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    ImmutableBag<String> bag = createBag();
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(bag).topOccurrences(1).containsExactly(pair("TOS", 3)));
+  }
+
+  private static ImmutableBag<String> createBag() {
+    return Bags.immutable.of("TOS", "TOS", "TOS", "TNG", "DS9", "DS9");
+  }
+}
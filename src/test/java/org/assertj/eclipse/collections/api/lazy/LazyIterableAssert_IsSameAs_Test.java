@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.lazy;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.LazyIterableAssert;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
+class LazyIterableAssert_IsSameAs_Test {
+  private static final LazyIterable<String> SERIES = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy();
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new LazyIterableAssert<>(SERIES).isSameAs(SERIES).isEqualTo(SERIES));
+  }
+
+  @Test
+  void passesAfterReadingTheElements() {
+    assertThatNoException().isThrownBy(() -> new LazyIterableAssert<>(SERIES).hasSize(5).isSameAs(SERIES));
+  }
+
+  @Test
+  void passesNotSameAs() {
+    LazyIterable<String> other = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy();
+    assertThatNoException().isThrownBy(() -> new LazyIterableAssert<>(SERIES).isNotSameAs(other).isNotEqualTo(other));
+  }
+
+  @Test
+  void fails() {
+    LazyIterable<String> other = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new LazyIterableAssert<>(SERIES).isSameAs(other))
+      .withMessageContaining("to refer to the same object");
+  }
+
+  @Test
+  void failsNotSameAs() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new LazyIterableAssert<>(SERIES).isNotSameAs(SERIES));
+  }
+}
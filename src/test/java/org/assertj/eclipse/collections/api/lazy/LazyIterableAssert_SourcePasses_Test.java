@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.lazy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.eclipse.collections.api.LazyIterableAssert;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
+class LazyIterableAssert_SourcePasses_Test {
+  @Test
+  void noPassBeforeAnAssertionRuns() {
+    LazyIterableAssert<String> lazyIterableAssert = new LazyIterableAssert<>(Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy());
+    assertThat(lazyIterableAssert.sourcePasses()).isZero();
+  }
+
+  @Test
+  void chainedAssertionsReadTheSourceOnce() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyIterable<String> series = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy()
+      .tap(s -> evaluations.incrementAndGet());
+
+    LazyIterableAssert<String> lazyIterableAssert = new LazyIterableAssert<>(series)
+      .isNotEmpty()
+      .hasSize(5)
+      .contains("DS9", "ENT")
+      .allMatch(s -> s.length() == 3)
+      .doesNotContain("DIS");
+
+    assertThat(lazyIterableAssert.sourcePasses()).isEqualTo(1);
+    assertThat(evaluations).hasValue(5);
+  }
+
+  @Test
+  void shortCircuitingAssertionOnlyEvaluatesWhatItNeeds() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyIterable<String> series = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy()
+      .tap(s -> evaluations.incrementAndGet());
+
+    LazyIterableAssert<String> lazyIterableAssert = new LazyIterableAssert<>(series).anyMatch(s -> s.startsWith("T"));
+
+    assertThat(lazyIterableAssert.sourcePasses()).isEqualTo(1);
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void filteredOnDoesNotReadTheSourceAgain() {
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyIterable<String> series = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT").asLazy()
+      .tap(s -> evaluations.incrementAndGet());
+
+    LazyIterableAssert<String> lazyIterableAssert = new LazyIterableAssert<>(series).hasSize(5);
+    lazyIterableAssert.filteredOn(s -> s.startsWith("T")).containsExactly("TOS", "TNG");
+
+    assertThat(lazyIterableAssert.sourcePasses()).isEqualTo(1);
+    assertThat(evaluations).hasValue(5);
+  }
+
+  @Test
+  void throwsExceptionWhenActualIsNull() {
+    LazyIterableAssert<String> lazyIterableAssert = new LazyIterableAssert<>(null);
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(lazyIterableAssert::isNotEmpty)
+      .withMessageContaining("Expecting actual not to be null");
+    assertThat(lazyIterableAssert.sourcePasses()).isZero();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.list;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.ListIterableAssert;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+class ListIterableAssert_ContainsExactly_Test {
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> {
+      ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+      new ListIterableAssert<>(list).containsExactly("TOS", "TNG", "DS9", "VOY", "ENT");
+    });
+  }
+
+  @Test
+  void passesBothEmpty() {
+    assertThatNoException().isThrownBy(() -> new ListIterableAssert<>(Lists.immutable.empty()).containsExactly());
+  }
+
+  @Test
+  void failsWithDifferentOrder() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> {
+        ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+        new ListIterableAssert<>(list).containsExactly("TOS", "TNG", "VOY", "DS9", "ENT");
+      }).withMessageContaining("Actual and expected have the same elements but not in the same order, at index 2 actual element was")
+      .withMessageContaining("DS9");
+  }
+
+  @Test
+  void failsWithDifferentElements() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> {
+        ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+        new ListIterableAssert<>(list).containsExactly("TOS", "TNG", "DS9", "VOY", "DIS");
+      }).withMessageContaining("to contain exactly")
+      .withMessageContaining("DIS")
+      .withMessageContaining("ENT");
+  }
+
+  @Test
+  void failsWithDifferentSize() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> {
+        ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+        new ListIterableAssert<>(list).containsExactly("TOS", "TNG", "DS9", "VOY");
+      }).withMessageContaining("to contain exactly")
+      .withMessageContaining("ENT");
+  }
+
+  @Test
+  void passesWithElementComparator() {
+    assertThatNoException().isThrownBy(() -> {
+      ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+      new ListIterableAssert<>(list).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .containsExactly("tos", "tng", "ds9", "voy", "ent");
+    });
+  }
+
+  @Test
+  void failsWithElementComparator() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> {
+        ImmutableList<String> list = Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT");
+        new ListIterableAssert<>(list).usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+          .containsExactly("tng", "tos", "ds9", "voy", "ent");
+      }).withMessageContaining("to contain exactly")
+      .withMessageContaining("tng");
+  }
+
+  @Test
+  void throwsExceptionWhenActualIsNull() {
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() ->
+      new ListIterableAssert<String>(null).containsExactly("TOS")
+    ).withMessageContaining("Expecting actual not to be null");
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.BagMultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+class BagMultimapAssert_ValuesForKey_Test {
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new BagMultimapAssert<>(MultimapTestData.mutableBagMultimap()).valuesForKey("VOY")
+      .hasSize(8)
+      .hasOccurrencesOf("Janeway", 1));
+  }
+
+  @Test
+  void returnsBagAssert() {
+    assertThat(new BagMultimapAssert<>(MultimapTestData.mutableBagMultimap()).valuesForKey("TOS")).isInstanceOf(BagAssert.class);
+  }
+
+  @Test
+  void keepsDescription() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagMultimapAssert<>(MultimapTestData.mutableBagMultimap()).as("Voyager crew").valuesForKey("VOY").contains("Kes", "Q"))
+      .withMessageContaining("[Voyager crew values for key <VOY>]")
+      .withMessageContaining("Q");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagMultimapAssert<String, String>(null).valuesForKey("TOS"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(MultimapTestData.mutableBagMultimap()).valuesForKey("TOS").contains("Kirk"));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.ListMultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.junit.jupiter.api.Test;
+
+class ListMultimapAssert_AllValueListsSorted_Test {
+
+  @Test
+  void passes() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatNoException().isThrownBy(() -> new ListMultimapAssert<>(actual).allValueListsSorted(Comparator.naturalOrder()));
+  }
+
+  @Test
+  void fails() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListMultimapAssert<>(actual).allValueListsSorted(Comparator.reverseOrder()))
+      .withMessageContaining("Expecting the values for key \"DS9\"")
+      .withMessageContaining("to be sorted according to the given comparator")
+      .withMessageContaining("\"Deep Space Nine\"")
+      .withMessageContaining("\"Defiant\"");
+  }
+
+  @Test
+  void passesChainedWithMultimapAssertions() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatNoException().isThrownBy(() -> new ListMultimapAssert<>(actual)
+      .containsKeys("DS9")
+      .allValueListsSorted(Comparator.naturalOrder())
+      .hasDistinctSizeGreaterThan(1)
+      .valuesForKeyAreSorted("DS9"));
+  }
+
+  @Test
+  void failsNullComparator() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new ListMultimapAssert<>(actual).allValueListsSorted(null))
+      .withMessage("The comparator should not be null");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListMultimapAssert<String, String>(null).allValueListsSorted(Comparator.naturalOrder()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).allValueListsSorted(Comparator.naturalOrder()));
+  }
+}
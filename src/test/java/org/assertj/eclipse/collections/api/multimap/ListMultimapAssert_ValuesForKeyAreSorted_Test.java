@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.ListMultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.junit.jupiter.api.Test;
+
+class ListMultimapAssert_ValuesForKeyAreSorted_Test {
+
+  @Test
+  void passes() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatNoException().isThrownBy(() -> new ListMultimapAssert<>(actual)
+      .valuesForKeyAreSorted("DS9")
+      .valuesForKeyAreSorted("VOY"));
+  }
+
+  @Test
+  void fails() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListMultimap();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListMultimapAssert<>(actual).valuesForKeyAreSorted("TOS"))
+      .withMessageContaining("Expecting the values for key \"TOS\"")
+      .withMessageContaining("to be sorted but element 1:")
+      .withMessageContaining("\"Spock\"")
+      .withMessageContaining("is greater than element 2:")
+      .withMessageContaining("\"McCoy\"");
+  }
+
+  @Test
+  void failsMissingKey() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListMultimapAssert<>(actual).valuesForKeyAreSorted("TOS"))
+      .withMessageContaining("TOS");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListMultimapAssert<String, String>(null).valuesForKeyAreSorted("DS9"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    ListMultimap<String, String> actual = MultimapTestData.mutableListShipMultimap();
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).valuesForKeyAreSorted("DS9"));
+  }
+}
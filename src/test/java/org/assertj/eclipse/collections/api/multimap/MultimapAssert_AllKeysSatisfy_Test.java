@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MultimapAssert_AllKeysSatisfy_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).allKeysSatisfy(key -> assertThat(key).hasSize(3)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void visitsEachKeyOnce(Multimap<String, String> actual) {
+    AtomicInteger visits = new AtomicInteger();
+    new MultimapAssert<>(actual).allKeysSatisfy(key -> visits.incrementAndGet());
+    assertThat(visits).hasValue(5);
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void fails(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).allKeysSatisfy(key -> assertThat(key).startsWith("T")))
+      .withMessageContaining("DS9")
+      .withMessageContaining("VOY")
+      .withMessageContaining("ENT");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsFast(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).failFast().allKeysSatisfy(key -> assertThat(key).startsWith("X")))
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsWithFailureCapReachedOnLastKey(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).withFailureCap(5).allKeysSatisfy(key -> assertThat(key).startsWith("X")))
+      .withMessageNotContaining("truncated");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#emptyMultimaps")
+  void failsEmpty(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).allKeysSatisfy(key -> assertThat(key).hasSize(3)))
+      .withMessageContaining("Expecting actual not to be empty");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).allKeysSatisfy(key -> assertThat(key).hasSize(3)))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullRequirements() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new MultimapAssert<>(MultimapTestData.mutableListMultimap()).allKeysSatisfy(null))
+      .withMessageContaining("The Consumer<T> expressing the assertions requirements must not be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).allKeysSatisfy(key -> assertThat(key).hasSize(3)));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MultimapAssert_AllValuesSatisfy_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).allValuesSatisfy(value -> assertThat(value).isNotBlank()));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void fails(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).allValuesSatisfy(value -> assertThat(value).doesNotContain(" ")))
+      .withMessageContaining("The Doctor");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsWithFailureCap(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).withFailureCap(2).allValuesSatisfy(value -> assertThat(value).isEmpty()))
+      .withMessageContaining("The scan was truncated after finding 2 offending element(s)");
+  }
+
+  @Test
+  void failsInvalidFailureCap() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> new MultimapAssert<>(MultimapTestData.mutableListMultimap()).withFailureCap(0))
+      .withMessageContaining("The failure cap must be greater than 0 but was <0>");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).allValuesSatisfy(value -> assertThat(value).isNotBlank()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).allValuesSatisfy(value -> assertThat(value).isNotBlank()));
+  }
+}
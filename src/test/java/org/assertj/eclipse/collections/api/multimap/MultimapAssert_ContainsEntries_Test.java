@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MultimapAssert_ContainsEntries_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).containsEntries("ENT", "Reed", "Archer", "Trip"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passesManyValues(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .containsEntries("DS9", "Sisko", "Kira", "Obrien", "Dax", "Odo", "Bashir", "Worf", "Quark", "Jake"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsMissingValue(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).containsEntries("VOY", "Janeway", "Kes"))
+      .withMessageContaining("to contain")
+      .withMessageContaining("but could not find the following element(s)")
+      .withMessageContaining("VOY:Kes");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsValueOfAnotherKey(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).containsEntries("TOS", "Kirk", "Picard"))
+      .withMessageContaining("TOS:Picard");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).containsEntries("ENT", "Reed"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).containsEntries("ENT", "Reed", "Archer"));
+  }
+}
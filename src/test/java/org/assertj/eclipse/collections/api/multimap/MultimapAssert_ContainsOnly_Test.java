@@ -24,7 +24,9 @@ import java.util.Map;
 import org.assertj.eclipse.collections.api.SoftAssertions;
 import org.assertj.eclipse.collections.api.MultimapAssert;
 import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Multimaps;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -141,6 +143,35 @@ class MultimapAssert_ContainsOnly_Test {
       .withMessageContaining("but could not find the following multimap entries");
   }
 
+  @Test
+  void passesWithDuplicateEntries() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.of();
+    actual.put("TNG", "Enterprise");
+    actual.put("TNG", "Enterprise");
+    actual.put("VOY", "Voyager");
+    Pair<String, String>[] exactMatchPairs = new Pair[]{
+      pair("TNG", "Enterprise"),
+      pair("VOY", "Voyager")
+    };
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).containsOnly(exactMatchPairs));
+  }
+
+  @Test
+  void failsReportingUnexpectedEntriesInIterationOrder() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.of();
+    actual.put("TNG", "Enterprise");
+    actual.put("DS9", "Defiant");
+    actual.put("DS9", "Deep Space Nine");
+    Pair<String, String>[] partialMatchPairs = new Pair[]{
+      pair("TNG", "Enterprise"),
+      pair("VOY", "Voyager")
+    };
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).containsOnly(partialMatchPairs))
+      .withMessageContaining("but could not find the following multimap entries:%n  [VOY:Voyager]".formatted())
+      .withMessageContaining("[DS9:Defiant, DS9:Deep Space Nine]");
+  }
+
   @Test
   void failsForNullMultimapWithPair() {
     Pair<String, String>[] exactMatchPairs = new Pair[]{
@@ -18,9 +18,13 @@ package org.assertj.eclipse.collections.api.multimap;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
+import org.assertj.core.api.Condition;
 import org.assertj.eclipse.collections.api.SoftAssertions;
 import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.sortedset.MutableSortedSetMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -53,6 +57,43 @@ class MultimapAssert_ContainsValues_Test {
       .withMessageContaining("Kes");
   }
 
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passesManyValues(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .containsValues("Kirk", "Spock", "Picard", "Riker", "Sisko", "Kira", "Janeway", "Chakotay", "Archer", "Trip"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsManyValuesWithMissingValues(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual)
+        .containsValues("Kirk", "Spock", "Picard", "Riker", "Sisko", "Kira", "Janeway", "Kes", "Archer", "Neelix"))
+      .withMessageContaining("to contain values")
+      .withMessageContaining("Kes")
+      .withMessageContaining("Neelix");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passesChainedWithHasValueSatisfying(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .containsValues("Kirk", "Spock", "Picard", "Riker", "Sisko", "Kira", "Janeway", "Chakotay", "Archer", "Trip")
+      .hasValueSatisfying(new Condition<>(value -> value.startsWith("Tuv"), "value starts with Tuv"))
+      .containsValues("Worf"));
+  }
+
+  @Test
+  void passesManyValuesComparedWithTheValueComparator() {
+    MutableSortedSetMultimap<String, String> actual = Multimaps.mutable.sortedSet.with(String.CASE_INSENSITIVE_ORDER);
+    actual.putAll("TOS", Lists.immutable.with("Kirk", "Spock", "McCoy", "Scotty", "Uhura"));
+    actual.putAll("TNG", Lists.immutable.with("Picard", "Riker", "Data", "Worf", "Troi"));
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .hasValueSatisfying(new Condition<>(value -> value.startsWith("W"), "value starts with W"))
+      .containsValues("kirk", "spock", "mccoy", "scotty", "uhura", "picard", "riker", "data", "worf", "troi"));
+  }
+
   @Test
   void failsNullMultimap() {
     assertThatExceptionOfType(AssertionError.class)
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MultimapAssert_EachKeyValuesSatisfy_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .eachKeyValuesSatisfy((key, values) -> assertThat(values.size()).isBetween(7, 9)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void fails(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual)
+        .eachKeyValuesSatisfy((key, values) -> assertThat(values.contains("Worf")).as(key).isFalse()))
+      .withMessageContaining("TNG")
+      .withMessageContaining("DS9");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsFastSkippingRemainingGroups(Multimap<String, String> actual) {
+    AtomicInteger visits = new AtomicInteger();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).failFast().eachKeyValuesSatisfy((key, values) -> {
+        visits.incrementAndGet();
+        assertThat(values).isEmpty();
+      }))
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    assertThat(visits).hasValue(1);
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).eachKeyValuesSatisfy((key, values) -> assertThat(values).isNotEmpty()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullRequirements() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new MultimapAssert<>(MultimapTestData.mutableListMultimap()).eachKeyValuesSatisfy(null))
+      .withMessageContaining("The BiConsumer<K, V> expressing the assertions requirements must not be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).eachKeyValuesSatisfy((key, values) -> assertThat(values).isNotEmpty()));
+  }
+}
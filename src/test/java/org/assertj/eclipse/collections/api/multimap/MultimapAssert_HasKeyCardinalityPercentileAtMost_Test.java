@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MultimapAssert_HasKeyCardinalityPercentileAtMost_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual)
+      .hasKeyCardinalityPercentileAtMost(60, 7)
+      .hasKeyCardinalityPercentileAtMost(80, 8)
+      .hasKeyCardinalityPercentileAtMost(100, 9));
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void fails(Multimap<String, String> actual) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).hasKeyCardinalityPercentileAtMost(80, 7))
+      .withMessageContaining("to be at most 7 but was 8")
+      .withMessageContaining("[DS9:9, VOY:8]");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void failsInvalidPercentile(Multimap<String, String> actual) {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).hasKeyCardinalityPercentileAtMost(0, 7))
+      .withMessageContaining("The percentile must be greater than 0 and at most 100");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 37, 50, 63, 99, 100})
+  void selectsNearestRankAmongUnorderedKeys(int percentile) {
+    // Key i holds (37 * i) % 100 + 1 values, so the 100 keys hold from 1 to 100 values each, in no particular order
+    MutableListMultimap<Integer, Integer> actual = Multimaps.mutable.list.empty();
+    for (int key = 0; key < 100; key++) {
+      for (int value = 0; value <= 37 * key % 100; value++) {
+        actual.put(key, value);
+      }
+    }
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).hasKeyCardinalityPercentileAtMost(percentile, percentile));
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).hasKeyCardinalityPercentileAtMost(percentile, percentile - 1));
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).hasKeyCardinalityPercentileAtMost(50, 7))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).hasKeyCardinalityPercentileAtMost(100, 9));
+  }
+}
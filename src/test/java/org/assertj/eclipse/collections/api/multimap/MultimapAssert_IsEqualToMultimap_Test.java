@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.MultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MultimapAssert_IsEqualToMultimap_Test {
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void passes(Multimap<String, String> actual) {
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(MultimapTestData.mutableBagMultimap()));
+  }
+
+  @Test
+  void passesIgnoringValueOrder() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.with("DS9", "Sisko", "DS9", "Kira", "VOY", "Janeway");
+    MutableListMultimap<String, String> expected = Multimaps.mutable.list.with("DS9", "Kira", "DS9", "Sisko", "VOY", "Janeway");
+    assertThatNoException().isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(expected));
+  }
+
+  @Test
+  void failsMissingKey() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.with("DS9", "Sisko");
+    MutableListMultimap<String, String> expected = Multimaps.mutable.list.with("DS9", "Sisko", "VOY", "Janeway");
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(expected))
+      .withMessageContaining("but 1 key(s) differ")
+      .withMessageContaining("- 1 key(s) could not be found: [\"VOY\"]");
+  }
+
+  @Test
+  void failsUnexpectedKey() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.with("DS9", "Sisko", "TOS", "Kirk");
+    MutableListMultimap<String, String> expected = Multimaps.mutable.list.with("DS9", "Sisko");
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(expected))
+      .withMessageContaining("- 1 key(s) were unexpected: [\"TOS\"]");
+  }
+
+  @Test
+  void failsDifferentValuesWithBagSemantics() {
+    MutableListMultimap<String, String> actual = Multimaps.mutable.list.with("DS9", "Sisko", "DS9", "Sisko", "DS9", "Kira");
+    MutableListMultimap<String, String> expected = Multimaps.mutable.list.with("DS9", "Sisko", "DS9", "Kira", "DS9", "Odo");
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(expected))
+      .withMessageContaining("- 1 key(s) have different values:")
+      .withMessageContaining("\"DS9\": could not find [\"Odo\"] and did not expect [\"Sisko\"]");
+  }
+
+  @Test
+  void failsReportingOnlyTheFirstKeys() {
+    MutableListMultimap<Integer, Integer> actual = Multimaps.mutable.list.empty();
+    MutableListMultimap<Integer, Integer> expected = Multimaps.mutable.list.empty();
+    for (int i = 0; i < 100; i++) {
+      actual.put(i, i);
+      expected.put(i, -i - 1);
+    }
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<>(actual).isEqualToMultimap(expected))
+      .withMessageContaining("but 100 key(s) differ")
+      .withMessageContaining("Only the first 10 differing key(s) are shown.");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new MultimapAssert<String, String>(null).isEqualToMultimap(MultimapTestData.mutableListMultimap()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullInput() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new MultimapAssert<>(MultimapTestData.mutableListMultimap()).isEqualToMultimap(null))
+      .withMessageContaining("The multimap to compare to should not be null");
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.assertj.eclipse.collections.api.multimap.MultimapTestData#nonEmptyMultimaps")
+  void softAssertionPasses(Multimap<String, String> actual) {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual).isEqualToMultimap(MultimapTestData.mutableListMultimap()));
+  }
+}
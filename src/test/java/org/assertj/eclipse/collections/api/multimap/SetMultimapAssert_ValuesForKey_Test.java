@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SetIterableAssert;
+import org.assertj.eclipse.collections.api.SetMultimapAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetIterableAssert;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.multimap.sortedset.MutableSortedSetMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.junit.jupiter.api.Test;
+
+class SetMultimapAssert_ValuesForKey_Test {
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SetMultimapAssert<>(MultimapTestData.mutableSetMultimap()).valuesForKey("VOY")
+      .hasSize(8)
+      .isSubsetOf(Sets.immutable.of("Janeway", "Chakotay", "Torres", "Paris", "The Doctor", "Tuvok", "Kim", "Seven", "Kes", "Neelix")));
+  }
+
+  @Test
+  void returnsSetAssert() {
+    assertThat(new SetMultimapAssert<>(MultimapTestData.mutableSetMultimap()).valuesForKey("TOS")).isInstanceOf(SetIterableAssert.class);
+  }
+
+  @Test
+  void returnsSortedSetAssertForSortedValues() {
+    MutableSortedSetMultimap<String, String> actual = Multimaps.mutable.sortedSet.with(Comparator.reverseOrder());
+    actual.putAll("TOS", Lists.immutable.of("Kirk", "Spock", "McCoy"));
+    assertThat(new SetMultimapAssert<>(actual).valuesForKey("TOS")).isInstanceOf(SortedSetIterableAssert.class);
+  }
+
+  @Test
+  void keepsDescription() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SetMultimapAssert<>(MultimapTestData.mutableSetMultimap()).as("Voyager crew").valuesForKey("VOY").contains("Kes", "Q"))
+      .withMessageContaining("[Voyager crew values for key <VOY>]")
+      .withMessageContaining("Q");
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SetMultimapAssert<String, String>(null).valuesForKey("TOS"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(MultimapTestData.mutableSetMultimap()).valuesForKey("TOS").contains("Kirk"));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.multimap;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetMultimapAssert;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.multimap.sortedset.MutableSortedSetMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.junit.jupiter.api.Test;
+
+class SortedSetMultimapAssert_AllValueListsSorted_Test {
+
+  @Test
+  void passes() {
+    MutableSortedSetMultimap<String, Integer> actual = sortedSetMultimap(Comparator.reverseOrder());
+    assertThatNoException().isThrownBy(() -> new SortedSetMultimapAssert<>(actual)
+      .allValueListsSorted(Comparator.reverseOrder())
+      .containsExactlyValuesForKey("Odd", 5, 3, 1));
+  }
+
+  @Test
+  void fails() {
+    MutableSortedSetMultimap<String, Integer> actual = sortedSetMultimap(Comparator.reverseOrder());
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetMultimapAssert<>(actual).allValueListsSorted(Comparator.naturalOrder()))
+      .withMessageContaining("to be sorted according to the given comparator")
+      .withMessageContaining("but element 0:");
+  }
+
+  @Test
+  void passesChainedWithMultimapAssertions() {
+    MutableSortedSetMultimap<String, Integer> actual = sortedSetMultimap(Comparator.reverseOrder());
+    assertThatNoException().isThrownBy(() -> new SortedSetMultimapAssert<>(actual)
+      .containsKeys("Odd", "Even")
+      .allValueListsSorted(Comparator.reverseOrder())
+      .hasSize(6)
+      .containsExactlyValuesForKey("Even", 6, 4, 2));
+  }
+
+  @Test
+  void failsNullMultimap() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetMultimapAssert<String, Integer>(null).allValueListsSorted(Comparator.naturalOrder()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    MutableSortedSetMultimap<String, Integer> actual = sortedSetMultimap(Comparator.naturalOrder());
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(actual)
+      .allValueListsSorted(Comparator.naturalOrder())
+      .containsExactlyValuesForKey("Even", 2, 4, 6));
+  }
+
+  private static MutableSortedSetMultimap<String, Integer> sortedSetMultimap(Comparator<Integer> comparator) {
+    MutableSortedSetMultimap<String, Integer> multimap = Multimaps.mutable.sortedSet.with(comparator);
+    multimap.putAll("Odd", Lists.immutable.with(1, 3, 5));
+    multimap.putAll("Even", Lists.immutable.with(2, 4, 6));
+    return multimap;
+  }
+}
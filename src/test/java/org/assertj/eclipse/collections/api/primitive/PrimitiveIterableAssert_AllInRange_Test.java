@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.primitive;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.ByteIterableAssert;
+import org.assertj.eclipse.collections.api.DoubleIterableAssert;
+import org.assertj.eclipse.collections.api.FloatIterableAssert;
+import org.assertj.eclipse.collections.api.IntIterableAssert;
+import org.assertj.eclipse.collections.api.LongIterableAssert;
+import org.assertj.eclipse.collections.api.ShortIterableAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.junit.jupiter.api.Nested;
+
+class PrimitiveIterableAssert_AllInRange_Test {
+
+  @Nested
+  class ByteTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void passes(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).allInRange((byte) 1, (byte) 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void passesEmpty(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange((byte) 1, (byte) 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void fails(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).allInRange((byte) 2, (byte) 3))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsNull(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange((byte) 1, (byte) 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).allInRange((byte) 3, (byte) 1))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange((byte) 0, (byte) 0));
+    }
+  }
+
+  @Nested
+  class DoubleTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void passes(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0).allInRange(1.0, 3.0));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void passesEmpty(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange(1.0, 3.0));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void fails(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0).allInRange(2.0, 3.0))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsNull(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange(1.0, 3.0))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0).allInRange(3.0, 1.0))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange(0.0, 0.0));
+    }
+  }
+
+  @Nested
+  class FloatTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void passes(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f).allInRange(1.0f, 3.0f));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void passesEmpty(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange(1.0f, 3.0f));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void fails(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f).allInRange(2.0f, 3.0f))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsNull(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange(1.0f, 3.0f))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f).allInRange(3.0f, 1.0f))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange(0.0f, 0.0f));
+    }
+  }
+
+  @Nested
+  class IntTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void passes(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1, 2, 3).allInRange(1, 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void passesEmpty(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange(1, 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void fails(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3).allInRange(2, 3))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsNull(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange(1, 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3).allInRange(3, 1))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange(0, 0));
+    }
+  }
+
+  @Nested
+  class LongTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void passes(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).allInRange(1L, 3L));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void passesEmpty(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange(1L, 3L));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void fails(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).allInRange(2L, 3L))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsNull(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange(1L, 3L))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).allInRange(3L, 1L))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange(0L, 0L));
+    }
+  }
+
+  @Nested
+  class ShortTest {
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void passes(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).allInRange((short) 1, (short) 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void passesEmpty(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().allInRange((short) 1, (short) 3));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void fails(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).allInRange((short) 2, (short) 3))
+        .withMessageContaining("(inclusive) but these were not:");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsNull(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromNull().allInRange((short) 1, (short) 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsInvalidRange(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).allInRange((short) 3, (short) 1))
+        .withMessageContaining("The lower bound of the range should not be greater than the upper bound");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void softAssertionPasses(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 1).allInRange((short) 0, (short) 0));
+    }
+  }
+}
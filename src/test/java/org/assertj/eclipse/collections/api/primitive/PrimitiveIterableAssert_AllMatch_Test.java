@@ -66,6 +66,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is true' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void failsFast(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(false, true, false).failFast().allMatch(value -> value))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
     void softAssertionPasses(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> true));
@@ -107,6 +115,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is even' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsFast(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).failFast().allMatch(value -> value % 2 == 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
     void softAssertionPasses(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -148,6 +164,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is lowercase' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void failsFast(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements('A', 'b', 'C').failFast().allMatch(value -> value >= 'a' && value <= 'z'))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
     void softAssertionPasses(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -189,6 +213,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is positive' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsFast(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(-1.0, 2.0, -3.0).failFast().allMatch(value -> value > 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
     void softAssertionPasses(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -230,6 +262,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is positive' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsFast(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(-1.0f, 2.0f, -3.0f).failFast().allMatch(value -> value > 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -271,6 +311,22 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is even' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsFast(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3).failFast().allMatch(value -> value % 2 == 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsFastOnLastElement(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1).failFast().allMatch(value -> value % 2 == 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageNotContaining("truncated");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -312,6 +368,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is even' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsFast(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).failFast().allMatch(value -> value % 2 == 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
     void softAssertionPasses(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
@@ -353,6 +417,14 @@ class PrimitiveIterableAssert_AllMatch_Test {
         .withMessageContaining("to match 'is even' predicate but this element did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsFast(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).failFast().allMatch(value -> value % 2 == 0))
+        .withMessageContaining("to match given predicate but this element did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allMatch(value -> value >= 0));
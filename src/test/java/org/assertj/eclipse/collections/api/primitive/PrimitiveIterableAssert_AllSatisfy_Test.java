@@ -54,6 +54,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void failsFast(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(true, false, true).failFast().allSatisfy(value -> assertThat(value).isTrue()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
     void softAssertionPasses(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> {
@@ -83,6 +91,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsFast(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) 3, (byte) 4, (byte) 5).failFast().allSatisfy(value -> assertThat(value).isEven()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
     void softAssertionPasses(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo((byte) 0)));
@@ -111,6 +127,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void failsFast(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements('A', 'b', 'C').failFast().allSatisfy(value -> assertThat(value).isLowerCase()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
     void softAssertionPasses(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo((char) 0)));
@@ -139,6 +163,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsFast(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(-2.0, 1.0, -4.0).failFast().allSatisfy(value -> assertThat(value).isPositive()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
     void softAssertionPasses(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo(0.0)));
@@ -167,6 +199,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsFast(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(-2.0f, 1.0f, -4.0f).failFast().allSatisfy(value -> assertThat(value).isPositive()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo(0.0f)));
@@ -195,6 +235,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsFast(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(3, 4, 5).failFast().allSatisfy(value -> assertThat(value).isEven()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo(0)));
@@ -223,6 +271,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsFast(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(3L, 4L, 5L).failFast().allSatisfy(value -> assertThat(value).isEven()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
     void softAssertionPasses(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo(0L)));
@@ -251,6 +307,14 @@ class PrimitiveIterableAssert_AllSatisfy_Test {
         .withMessageContaining("to satisfy given requirements, but these elements did not:");
     }
 
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsFast(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((short) 3, (short) 4, (short) 5).failFast().allSatisfy(value -> assertThat(value).isEven()))
+        .withMessageContaining("to satisfy given requirements, but these elements did not:")
+        .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+    }
+
     @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
     void softAssertionPasses(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
       SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromSize(softly, 3).allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo((short) 0)));
@@ -26,6 +26,22 @@ import org.assertj.eclipse.collections.api.FloatIterableAssert;
 import org.assertj.eclipse.collections.api.IntIterableAssert;
 import org.assertj.eclipse.collections.api.LongIterableAssert;
 import org.assertj.eclipse.collections.api.ShortIterableAssert;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.factory.primitive.BooleanSets;
+import org.eclipse.collections.api.factory.primitive.ByteLists;
+import org.eclipse.collections.api.factory.primitive.ByteSets;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.factory.primitive.CharSets;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.DoubleSets;
+import org.eclipse.collections.api.factory.primitive.FloatLists;
+import org.eclipse.collections.api.factory.primitive.FloatSets;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.IntSets;
+import org.eclipse.collections.api.factory.primitive.LongLists;
+import org.eclipse.collections.api.factory.primitive.LongSets;
+import org.eclipse.collections.api.factory.primitive.ShortLists;
+import org.eclipse.collections.api.factory.primitive.ShortSets;
 import org.junit.jupiter.api.Nested;
 
 class PrimitiveIterableAssert_ContainsAnyOf_Test {
@@ -77,6 +93,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements(true, false, false).containsAnyOf((boolean[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void passesWithIterable(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(true, true)
+        .containsAnyOf(BooleanLists.immutable.of(true))
+        .containsAnyOf(BooleanSets.immutable.of(true)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void failsWithIterable(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(true, true).containsAnyOf(BooleanSets.immutable.of(false)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -139,6 +169,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).containsAnyOf((byte[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void passesWithIterable(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3)
+        .containsAnyOf(ByteLists.immutable.of((byte) 99, (byte) 3))
+        .containsAnyOf(ByteSets.immutable.of((byte) 99, (byte) 3)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsWithIterable(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) 1, (byte) 2, (byte) 3).containsAnyOf(ByteSets.immutable.of((byte) 98, (byte) 99)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -201,6 +245,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements('a', 'b', 'c').containsAnyOf((char[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void passesWithIterable(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements('a', 'b', 'c')
+        .containsAnyOf(CharLists.immutable.of('z', 'c'))
+        .containsAnyOf(CharSets.immutable.of('z', 'c')));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void failsWithIterable(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements('a', 'b', 'c').containsAnyOf(CharSets.immutable.of('y', 'z')))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -263,6 +321,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0).containsAnyOf((double[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void passesWithIterable(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0)
+        .containsAnyOf(DoubleLists.immutable.of(99.0, 3.0))
+        .containsAnyOf(DoubleSets.immutable.of(99.0, 3.0)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsWithIterable(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0).containsAnyOf(DoubleSets.immutable.of(98.0, 99.0)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -325,6 +397,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f).containsAnyOf((float[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void passesWithIterable(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f)
+        .containsAnyOf(FloatLists.immutable.of(99.0f, 3.0f))
+        .containsAnyOf(FloatSets.immutable.of(99.0f, 3.0f)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsWithIterable(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f).containsAnyOf(FloatSets.immutable.of(98.0f, 99.0f)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -387,6 +473,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements(1, 2, 3).containsAnyOf((int[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void passesWithIterable(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1, 2, 3)
+        .containsAnyOf(IntLists.immutable.of(99, 3))
+        .containsAnyOf(IntSets.immutable.of(99, 3)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsWithIterable(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3).containsAnyOf(IntSets.immutable.of(98, 99)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -449,6 +549,20 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).containsAnyOf((long[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void passesWithIterable(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L)
+        .containsAnyOf(LongLists.immutable.of(99L, 3L))
+        .containsAnyOf(LongSets.immutable.of(99L, 3L)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsWithIterable(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1L, 2L, 3L).containsAnyOf(LongSets.immutable.of(98L, 99L)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 
   @Nested
@@ -511,5 +625,19 @@ class PrimitiveIterableAssert_ContainsAnyOf_Test {
         .isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).containsAnyOf((short[]) null))
         .withMessageContaining("The array of values to look for should not be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void passesWithIterable(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3)
+        .containsAnyOf(ShortLists.immutable.of((short) 99, (short) 3))
+        .containsAnyOf(ShortSets.immutable.of((short) 99, (short) 3)));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsWithIterable(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((short) 1, (short) 2, (short) 3).containsAnyOf(ShortSets.immutable.of((short) 98, (short) 99)))
+        .withMessageContaining("to contain at least one of the following elements");
+    }
   }
 }
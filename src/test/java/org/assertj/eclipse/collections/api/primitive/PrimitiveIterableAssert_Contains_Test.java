@@ -50,6 +50,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements(false, false, false).contains(true))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void passesManyValues(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(true, true).contains(true, true, true, true, true, true, true, true, true));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BOOLEAN)
+    void failsManyValues(PrimitiveIterableAssertFactory<BooleanIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(true, true).contains(true, true, true, true, true, true, true, true, false))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -72,6 +85,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements((byte) 1).contains((byte) 99))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void passesManyValues(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 127).contains((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 127));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsManyValues(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 127).contains((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) -2))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -94,6 +120,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements('a').contains('z'))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void passesManyValues(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', '\uffff').contains('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', '\uffff'));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void failsManyValues(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', '\uffff').contains('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'z'))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -116,6 +155,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements(1.0).contains(99.0))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void passesManyValues(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0).contains(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsManyValues(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0).contains(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 99.0))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -138,6 +190,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements(1.0f).contains(99.0f))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void passesManyValues(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f).contains(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsManyValues(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f).contains(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 99.0f))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -160,6 +225,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements(1).contains(99))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void passesManyValues(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).contains(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsManyValues(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).contains(1, 2, 3, 4, 5, 6, 7, 8, 99))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -182,6 +260,19 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements(1L).contains(99L))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void passesManyValues(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, Long.MAX_VALUE).contains(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, Long.MAX_VALUE));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsManyValues(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, Long.MAX_VALUE).contains(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, 99L))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 
   @Nested
@@ -204,5 +295,18 @@ class PrimitiveIterableAssert_Contains_Test {
         .isThrownBy(() -> assertFactory.fromElements((short) 1).contains((short) 99))
         .withMessageContaining("to contain");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void passesManyValues(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatNoException().isThrownBy(() ->
+        assertFactory.fromElements(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, Short.MAX_VALUE).contains(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, Short.MAX_VALUE));
+    }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsManyValues(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, Short.MAX_VALUE).contains(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, (short) 99))
+        .withMessageContaining("but could not find the following element(s):");
+    }
   }
 }
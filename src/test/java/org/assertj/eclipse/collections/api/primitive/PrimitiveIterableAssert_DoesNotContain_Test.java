@@ -102,6 +102,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain((byte) 1))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.BYTE)
+    void failsManyValues(PrimitiveIterableAssertFactory<ByteIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 127).doesNotContain((byte) -128, (byte) -1, (byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) -2))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -146,6 +154,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain('a'))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.CHAR)
+    void failsManyValues(PrimitiveIterableAssertFactory<CharIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', '\uffff').doesNotContain('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'z'))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -190,6 +206,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain(1.0))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.DOUBLE)
+    void failsManyValues(PrimitiveIterableAssertFactory<DoubleIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0).doesNotContain(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 99.0))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -234,6 +258,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain(1.0f))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.FLOAT)
+    void failsManyValues(PrimitiveIterableAssertFactory<FloatIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f).doesNotContain(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 99.0f))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -278,6 +310,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain(1))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.INT)
+    void failsManyValues(PrimitiveIterableAssertFactory<IntIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).doesNotContain(1, 2, 3, 4, 5, 6, 7, 8, 99))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -322,6 +362,14 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain(1L))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.LONG)
+    void failsManyValues(PrimitiveIterableAssertFactory<LongIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, Long.MAX_VALUE).doesNotContain(Long.MIN_VALUE, -1L, 0L, 1L, 2L, 3L, 4L, 5L, 99L))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 
   @Nested
@@ -366,5 +414,13 @@ class PrimitiveIterableAssert_DoesNotContain_Test {
         .isThrownBy(() -> assertFactory.fromNull().doesNotContain((short) 1))
         .withMessageContaining("Expecting actual not to be null");
     }
+
+    @PrimitiveIterableParameterizedTest(type = PrimitiveType.SHORT)
+    void failsManyValues(PrimitiveIterableAssertFactory<ShortIterableAssert> assertFactory) {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertFactory.fromElements(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, Short.MAX_VALUE).doesNotContain(Short.MIN_VALUE, (short) -1, (short) 0, (short) 1, (short) 2, (short) 3, (short) 4, (short) 5, (short) 99))
+        .withMessageContaining("not to contain")
+        .withMessageContaining("but found");
+    }
   }
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.primitive;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.eclipse.collections.api.Assertions.assertThat;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.factory.primitive.ByteLists;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.FloatLists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.LongLists;
+import org.eclipse.collections.api.factory.primitive.ShortLists;
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveListAssert_ContainsSequence_Test {
+
+  @Nested
+  class BooleanTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).containsSequence(false, true));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).containsSequence(true, true))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((BooleanList) null).containsSequence(false, true))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).containsSequence((boolean[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(BooleanLists.immutable.of(true, false, true)).containsSequence(false, true));
+    }
+  }
+
+  @Nested
+  class ByteTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).containsSequence((byte) 2, (byte) 3));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).containsSequence((byte) 3, (byte) 4))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((ByteList) null).containsSequence((byte) 2, (byte) 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).containsSequence((byte[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).containsSequence((byte) 2, (byte) 3));
+    }
+  }
+
+  @Nested
+  class CharTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).containsSequence('b', 'c'));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).containsSequence('c', 'd'))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((CharList) null).containsSequence('b', 'c'))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).containsSequence((char[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(CharLists.immutable.of('a', 'b', 'c')).containsSequence('b', 'c'));
+    }
+  }
+
+  @Nested
+  class DoubleTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).containsSequence(2.0, 3.0));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).containsSequence(3.0, 4.0))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((DoubleList) null).containsSequence(2.0, 3.0))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).containsSequence((double[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).containsSequence(2.0, 3.0));
+    }
+  }
+
+  @Nested
+  class FloatTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).containsSequence(2.0f, 3.0f));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).containsSequence(3.0f, 4.0f))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((FloatList) null).containsSequence(2.0f, 3.0f))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).containsSequence((float[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).containsSequence(2.0f, 3.0f));
+    }
+  }
+
+  @Nested
+  class IntTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).containsSequence(2, 3));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).containsSequence(3, 4))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((IntList) null).containsSequence(2, 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).containsSequence((int[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(IntLists.immutable.of(1, 2, 3)).containsSequence(2, 3));
+    }
+  }
+
+  @Nested
+  class LongTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).containsSequence(2L, 3L));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).containsSequence(3L, 4L))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((LongList) null).containsSequence(2L, 3L))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).containsSequence((long[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(LongLists.immutable.of(1L, 2L, 3L)).containsSequence(2L, 3L));
+    }
+  }
+
+  @Nested
+  class ShortTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).containsSequence((short) 2, (short) 3));
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).containsSequence((short) 3, (short) 4))
+        .withMessageContaining("to contain sequence:");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((ShortList) null).containsSequence((short) 2, (short) 3))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).containsSequence((short[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).containsSequence((short) 2, (short) 3));
+    }
+  }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.primitive;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.eclipse.collections.api.Assertions.assertThat;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.factory.primitive.BooleanLists;
+import org.eclipse.collections.api.factory.primitive.ByteLists;
+import org.eclipse.collections.api.factory.primitive.CharLists;
+import org.eclipse.collections.api.factory.primitive.DoubleLists;
+import org.eclipse.collections.api.factory.primitive.FloatLists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.factory.primitive.LongLists;
+import org.eclipse.collections.api.factory.primitive.ShortLists;
+import org.eclipse.collections.api.list.primitive.BooleanList;
+import org.eclipse.collections.api.list.primitive.ByteList;
+import org.eclipse.collections.api.list.primitive.CharList;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.FloatList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.list.primitive.ShortList;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveListAssert_StartsWith_Test {
+
+  @Nested
+  class BooleanTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).startsWith(true, false));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).contains(true).startsWith(true, false).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).startsWith(true, true))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).startsWith(true, false, true, true))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((BooleanList) null).startsWith(true, false))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(BooleanLists.immutable.of(true, false, true)).startsWith((boolean[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(BooleanLists.immutable.of(true, false, true)).startsWith(true, false));
+    }
+  }
+
+  @Nested
+  class ByteTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).startsWith((byte) 1, (byte) 2));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).contains((byte) 1).startsWith((byte) 1, (byte) 2).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).startsWith((byte) 1, (byte) 4))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).startsWith((byte) 1, (byte) 2, (byte) 3, (byte) 1))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((ByteList) null).startsWith((byte) 1, (byte) 2))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).startsWith((byte[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(ByteLists.immutable.of((byte) 1, (byte) 2, (byte) 3)).startsWith((byte) 1, (byte) 2));
+    }
+  }
+
+  @Nested
+  class CharTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).startsWith('a', 'b'));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).contains('a').startsWith('a', 'b').isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).startsWith('a', 'd'))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).startsWith('a', 'b', 'c', 'a'))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((CharList) null).startsWith('a', 'b'))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(CharLists.immutable.of('a', 'b', 'c')).startsWith((char[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(CharLists.immutable.of('a', 'b', 'c')).startsWith('a', 'b'));
+    }
+  }
+
+  @Nested
+  class DoubleTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).startsWith(1.0, 2.0));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).contains(1.0).startsWith(1.0, 2.0).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).startsWith(1.0, 4.0))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).startsWith(1.0, 2.0, 3.0, 1.0))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((DoubleList) null).startsWith(1.0, 2.0))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).startsWith((double[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(DoubleLists.immutable.of(1.0, 2.0, 3.0)).startsWith(1.0, 2.0));
+    }
+  }
+
+  @Nested
+  class FloatTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).startsWith(1.0f, 2.0f));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).contains(1.0f).startsWith(1.0f, 2.0f).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).startsWith(1.0f, 4.0f))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).startsWith(1.0f, 2.0f, 3.0f, 1.0f))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((FloatList) null).startsWith(1.0f, 2.0f))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).startsWith((float[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(FloatLists.immutable.of(1.0f, 2.0f, 3.0f)).startsWith(1.0f, 2.0f));
+    }
+  }
+
+  @Nested
+  class IntTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).startsWith(1, 2));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).contains(1).startsWith(1, 2).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).startsWith(1, 4))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).startsWith(1, 2, 3, 1))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((IntList) null).startsWith(1, 2))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(IntLists.immutable.of(1, 2, 3)).startsWith((int[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(IntLists.immutable.of(1, 2, 3)).startsWith(1, 2));
+    }
+  }
+
+  @Nested
+  class LongTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).startsWith(1L, 2L));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).contains(1L).startsWith(1L, 2L).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).startsWith(1L, 4L))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).startsWith(1L, 2L, 3L, 1L))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((LongList) null).startsWith(1L, 2L))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(LongLists.immutable.of(1L, 2L, 3L)).startsWith((long[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(LongLists.immutable.of(1L, 2L, 3L)).startsWith(1L, 2L));
+    }
+  }
+
+  @Nested
+  class ShortTest {
+    @Test
+    void passes() {
+      assertThatNoException().isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).startsWith((short) 1, (short) 2));
+    }
+
+    @Test
+    void passesChainedWithIterableAssertions() {
+      assertThatNoException().isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).contains((short) 1).startsWith((short) 1, (short) 2).isNotEmpty());
+    }
+
+    @Test
+    void fails() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).startsWith((short) 1, (short) 4))
+        .withMessageContaining("but they first differ at index 1");
+    }
+
+    @Test
+    void failsWhenShorter() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).startsWith((short) 1, (short) 2, (short) 3, (short) 1))
+        .withMessageContaining("Expecting actual (3 elements) to start with the 4 given elements");
+    }
+
+    @Test
+    void failsNull() {
+      assertThatExceptionOfType(AssertionError.class)
+        .isThrownBy(() -> assertThat((ShortList) null).startsWith((short) 1, (short) 2))
+        .withMessageContaining("Expecting actual not to be null");
+    }
+
+    @Test
+    void failsNullInput() {
+      assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).startsWith((short[]) null))
+        .withMessageContaining("The array of values to look for should not be null");
+    }
+
+    @Test
+    void softAssertionPasses() {
+      SoftAssertions.assertSoftly(softly -> softly.assertThat(ShortLists.immutable.of((short) 1, (short) 2, (short) 3)).startsWith((short) 1, (short) 2));
+    }
+  }
+}
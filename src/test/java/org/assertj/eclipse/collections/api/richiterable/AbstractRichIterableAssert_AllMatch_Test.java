@@ -18,6 +18,7 @@ package org.assertj.eclipse.collections.api.richiterable;
 import org.assertj.eclipse.collections.api.SoftAssertions;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
 class AbstractRichIterableAssert_AllMatch_Test {
@@ -54,6 +55,53 @@ class AbstractRichIterableAssert_AllMatch_Test {
       .withMessageContaining("to match 'is not DS9' predicate but this element did not:");
   }
 
+  @RichIterableParameterizedTest
+  void failsWithoutTruncatingByDefault(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").allMatch(s -> s.startsWith("T")))
+      .withMessageContaining("to match given predicate but these elements did not:")
+      .withMessageNotContaining("truncated");
+  }
+
+  @RichIterableParameterizedTest
+  void failsFast(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").failFast().allMatch(s -> s.startsWith("T")))
+      .withMessageContaining("to match given predicate but this element did not:")
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithFailureCap(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").withFailureCap(2).allMatch(s -> s.startsWith("T")))
+      .withMessageContaining("to match given predicate but these elements did not:")
+      .withMessageContaining("The scan was truncated after finding 2 offending element(s)");
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithFailureCapNotReached(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").withFailureCap(5).allMatch(s -> s.startsWith("T")))
+      .withMessageContaining("to match given predicate but these elements did not:")
+      .withMessageNotContaining("truncated");
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithFailureCapReachedOnLastElement(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").withFailureCap(5).allMatch(s -> s.length() != 3))
+      .withMessageContaining("to match given predicate but these elements did not:")
+      .withMessageNotContaining("truncated");
+  }
+
+  @RichIterableParameterizedTest
+  void rejectsNonPositiveFailureCap(RichIterableAssertFactory<String> assertFactory) {
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").withFailureCap(0))
+      .withMessage("The failure cap must be greater than 0 but was <0>");
+  }
+
   @RichIterableParameterizedTest
   void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
     SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT").allMatch(s -> s.length() == 3));
@@ -65,6 +65,34 @@ class AbstractRichIterableAssert_AllSatisfy_Test {
       .withMessageContaining("to satisfy given requirements, but these elements did not:");
   }
 
+  @RichIterableParameterizedTest
+  void failsReportingEveryUnsatisfiedElement(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").allSatisfy((Consumer<String>) s ->
+        assertThat(s).startsWith("T")))
+      .withMessageContaining("DS9")
+      .withMessageContaining("VOY")
+      .withMessageContaining("ENT")
+      .withMessageNotContaining("truncated");
+  }
+
+  @RichIterableParameterizedTest
+  void failsFast(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").failFast().allSatisfy((Consumer<String>) s ->
+        assertThat(s).startsWith("T")))
+      .withMessageContaining("to satisfy given requirements, but these elements did not:")
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithFailureCap(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").withFailureCap(2).allSatisfy((Consumer<String>) s ->
+        assertThat(s).startsWith("T")))
+      .withMessageContaining("The scan was truncated after finding 2 offending element(s)");
+  }
+
   @RichIterableParameterizedTest
   void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
     SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT").allSatisfy((Consumer<String>) s ->
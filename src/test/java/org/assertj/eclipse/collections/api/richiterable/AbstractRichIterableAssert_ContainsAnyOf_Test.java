@@ -63,6 +63,22 @@ class AbstractRichIterableAssert_ContainsAnyOf_Test {
       .withMessageContaining("DS9");
   }
 
+  @RichIterableParameterizedTest
+  void passesManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .containsAnyOf("TAS", "DIS", "PIC", "LD", "PRO", "SNW", "SFA", "ST1", "ST2", "DS9"));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .containsAnyOf("TAS", "DIS", "PIC", "LD", "PRO", "SNW", "SFA", "ST1", "ST2", "ST3"))
+      .withMessageContaining("to contain at least one of the following elements")
+      .withMessageContaining("SFA");
+  }
+
   @RichIterableParameterizedTest
   void failsNull(RichIterableAssertFactory<String> assertFactory) {
     assertThatExceptionOfType(AssertionError.class)
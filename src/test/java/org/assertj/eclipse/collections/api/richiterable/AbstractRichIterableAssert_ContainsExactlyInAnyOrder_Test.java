@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+
+class AbstractRichIterableAssert_ContainsExactlyInAnyOrder_Test {
+  @RichIterableParameterizedTest
+  void passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsExactlyInAnyOrder("ENT", "VOY", "DS9", "TNG", "TOS"));
+  }
+
+  @RichIterableParameterizedTest
+  void passesBothEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().containsExactlyInAnyOrder());
+  }
+
+  @RichIterableParameterizedTest
+  void failsMissingElement(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsExactlyInAnyOrder("ENT", "VOY", "DS9", "TNG", "TOS", "DIS"))
+      .withMessageContaining("to contain exactly in any order")
+      .withMessageContaining("elements not found")
+      .withMessageContaining("DIS");
+  }
+
+  @RichIterableParameterizedTest
+  void failsUnexpectedElement(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsExactlyInAnyOrder("ENT", "VOY", "DS9", "TNG"))
+      .withMessageContaining("to contain exactly in any order")
+      .withMessageContaining("but the following elements were unexpected")
+      .withMessageContaining("TOS");
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithMissingDuplicate(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsExactlyInAnyOrder("ENT", "VOY", "DS9", "TNG", "TOS", "TOS"))
+      .withMessageContaining("to contain exactly in any order")
+      .withMessageContaining("elements not found")
+      .withMessageContaining("TOS");
+  }
+
+  @RichIterableParameterizedTest
+  void passesWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .containsExactlyInAnyOrder("voy", "tos", "ent", "ds9", "tng"));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .containsExactlyInAnyOrder("voy", "tos", "ent", "ds9", "dis"))
+      .withMessageContaining("to contain exactly in any order")
+      .withMessageContaining("dis");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNull(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromNull().containsExactlyInAnyOrder("DS9"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNullInput(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsExactlyInAnyOrder((String[]) null))
+      .withMessageContaining("The array of values to look for should not be null");
+  }
+
+  @RichIterableParameterizedTest
+  void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
+    SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT")
+      .containsExactlyInAnyOrder("VOY", "TOS", "ENT", "DS9", "TNG"));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+
+class AbstractRichIterableAssert_ContainsOnly_Test {
+  @RichIterableParameterizedTest
+  void passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsOnly("ENT", "VOY", "DS9", "TNG", "TOS"));
+  }
+
+  @RichIterableParameterizedTest
+  void passesWithDuplicateValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsOnly("ENT", "VOY", "DS9", "TNG", "TOS", "TOS"));
+  }
+
+  @RichIterableParameterizedTest
+  void passesBothEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().containsOnly());
+  }
+
+  @RichIterableParameterizedTest
+  void passesManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TAS", "TNG", "DS9", "VOY", "ENT", "DIS", "PIC", "LD", "PRO", "SNW")
+        .containsOnly("SNW", "PRO", "LD", "PIC", "DIS", "ENT", "VOY", "DS9", "TNG", "TAS", "TOS"));
+  }
+
+  @RichIterableParameterizedTest
+  void fails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsOnly("TOS", "TNG", "DS9", "VOY", "DIS"))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("element(s) not found")
+      .withMessageContaining("DIS")
+      .withMessageContaining("and element(s) not expected")
+      .withMessageContaining("ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void failsReportingValuesAsGiven(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsOnly("VOY", "TOS", "DIS", "TNG", "DS9", "TOS"))
+      .withMessageContaining("to contain only:%n  [\"VOY\", \"TOS\", \"DIS\", \"TNG\", \"DS9\", \"TOS\"]%n".formatted());
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TAS", "TNG", "DS9", "VOY", "ENT", "DIS", "PIC", "LD", "PRO", "SNW")
+        .containsOnly("SNW", "PRO", "LD", "PIC", "DIS", "ENT", "VOY", "DS9", "TNG", "SFA", "TOS"))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("SFA")
+      .withMessageContaining("TAS");
+  }
+
+  @RichIterableParameterizedTest
+  void failsEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromEmpty().containsOnly("DS9"))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("DS9");
+  }
+
+  @RichIterableParameterizedTest
+  void passesWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .containsOnly("ent", "voy", "ds9", "tng", "tos"));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .containsOnly("tos", "tng", "ds9", "voy", "dis"))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("dis")
+      .withMessageContaining("ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNull(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromNull().containsOnly("DS9"))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNullInput(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").containsOnly((String[]) null))
+      .withMessageContaining("The array of values to look for should not be null");
+  }
+
+  @RichIterableParameterizedTest
+  void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
+    SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT")
+      .containsOnly("VOY", "TOS", "ENT", "DS9", "TNG"));
+  }
+}
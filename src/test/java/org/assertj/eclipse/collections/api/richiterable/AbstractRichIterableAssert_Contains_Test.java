@@ -66,6 +66,23 @@ class AbstractRichIterableAssert_Contains_Test {
       .withMessageContaining("DS9");
   }
 
+  @RichIterableParameterizedTest
+  void passesManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TAS", "TNG", "DS9", "VOY", "ENT", "DIS", "PIC", "LD", "PRO", "SNW")
+        .contains("SNW", "PRO", "LD", "PIC", "DIS", "ENT", "VOY", "DS9", "TNG", "TAS", "TOS"));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TAS", "TNG", "DS9", "VOY", "ENT", "DIS", "PIC", "LD", "PRO", "SNW")
+        .contains("SNW", "PRO", "LD", "PIC", "DIS", "ENT", "VOY", "DS9", "TNG", "SFA", "TOS"))
+      .withMessageContaining("to contain")
+      .withMessageContaining("but could not find the following element(s)")
+      .withMessageContaining("SFA");
+  }
+
   @RichIterableParameterizedTest
   void failsNull(RichIterableAssertFactory<String> assertFactory) {
     assertThatExceptionOfType(AssertionError.class)
@@ -57,6 +57,23 @@ class AbstractRichIterableAssert_DoesNotContain_Test {
       .withMessageContaining("DS9");
   }
 
+  @RichIterableParameterizedTest
+  void passesManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .doesNotContain("TAS", "DIS", "PIC", "LD", "PRO", "SNW", "SFA", "ST1", "ST2", "ST3"));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithManyValues(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .doesNotContain("TAS", "DIS", "PIC", "LD", "PRO", "SNW", "SFA", "ST1", "ST2", "DS9"))
+      .withMessageContaining("not to contain")
+      .withMessageContaining("but found")
+      .withMessageContaining("DS9");
+  }
+
   @RichIterableParameterizedTest
   void failsNull(RichIterableAssertFactory<String> assertFactory) {
     assertThatExceptionOfType(AssertionError.class)
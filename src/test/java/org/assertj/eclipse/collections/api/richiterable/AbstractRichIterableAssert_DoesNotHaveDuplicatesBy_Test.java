@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+
+class AbstractRichIterableAssert_DoesNotHaveDuplicatesBy_Test {
+  @RichIterableParameterizedTest
+  void passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "DS9", "VOY", "ENT").doesNotHaveDuplicatesBy(series -> series.charAt(0)));
+  }
+
+  @RichIterableParameterizedTest
+  void passesEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().doesNotHaveDuplicatesBy(series -> series.charAt(0)));
+  }
+
+  @RichIterableParameterizedTest
+  void fails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "DS9", "VOY", "ENT", "DIS").doesNotHaveDuplicatesBy(series -> series.charAt(0)))
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageNotContaining("truncated");
+  }
+
+  @RichIterableParameterizedTest
+  void failsFast(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "DIS", "VOY").failFast().doesNotHaveDuplicatesBy(series -> series.charAt(0)))
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNull(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromNull().doesNotHaveDuplicatesBy(series -> series.charAt(0)))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNullInput(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").doesNotHaveDuplicatesBy(null))
+      .withMessageContaining("The key extractor should not be null");
+  }
+
+  @RichIterableParameterizedTest
+  void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
+    SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "DS9", "VOY", "ENT")
+      .doesNotHaveDuplicatesBy(series -> series.charAt(0)));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.ListIterableAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.StackIterableAssert;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Stacks;
+import org.junit.jupiter.api.Test;
+
+class AbstractRichIterableAssert_DoesNotHaveDuplicates_Test {
+  @RichIterableParameterizedTest
+  void passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").doesNotHaveDuplicates());
+  }
+
+  @RichIterableParameterizedTest
+  void passesEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().doesNotHaveDuplicates());
+  }
+
+  @Test
+  void failsList() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(Lists.immutable.of("TOS", "TNG", "DS9", "TNG", "TOS", "TNG")).doesNotHaveDuplicates())
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageContaining("[\"TNG\", \"TOS\"]")
+      .withMessageNotContaining("truncated");
+  }
+
+  @Test
+  void failsBag() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new BagAssert<>(Bags.immutable.of("TOS", "TNG", "DS9", "TNG")).doesNotHaveDuplicates())
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageContaining("TNG");
+  }
+
+  @Test
+  void failsStack() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new StackIterableAssert<>(Stacks.immutable.of("TOS", "TNG", "DS9", "TNG")).doesNotHaveDuplicates())
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageContaining("TNG");
+  }
+
+  @Test
+  void failsFast() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(Lists.immutable.of("TOS", "TNG", "DS9", "TNG", "TOS")).failFast().doesNotHaveDuplicates())
+      .withMessageContaining("not to contain duplicates but found")
+      .withMessageContaining("[\"TNG\"]")
+      .withMessageContaining("The scan was truncated after finding 1 offending element(s)");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNull(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromNull().doesNotHaveDuplicates())
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @RichIterableParameterizedTest
+  void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
+    SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT").doesNotHaveDuplicates());
+  }
+}
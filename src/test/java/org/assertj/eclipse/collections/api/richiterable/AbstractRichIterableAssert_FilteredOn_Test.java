@@ -15,12 +15,18 @@
  */
 package org.assertj.eclipse.collections.api.richiterable;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.assertj.eclipse.collections.api.RichIterableAssert;
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
 class AbstractRichIterableAssert_FilteredOn_Test {
   @RichIterableParameterizedTest
   void filteredOn_function_passes(RichIterableAssertFactory<String> assertFactory) {
@@ -49,4 +55,38 @@ class AbstractRichIterableAssert_FilteredOn_Test {
       .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").filteredOn((Predicate) null))
       .withMessageContaining("The filter predicate should not be null");
   }
+
+  @RichIterableParameterizedTest
+  void filteredOn_chained_passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").filteredOn(s -> s.length() == 3)
+      .filteredOn(s -> s.startsWith("T"))
+      .filteredOn(s -> s.endsWith("S"))
+      .hasSize(1)
+      .containsOnly("TOS"));
+  }
+
+  @Test
+  void filteredOn_doesNotEvaluateUntilAnAssertionRuns() {
+    AtomicInteger evaluations = new AtomicInteger();
+    RichIterableAssert<String> filtered = new RichIterableAssert<>(Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT"))
+      .filteredOn(s -> evaluations.incrementAndGet() > 0 && s.startsWith("T"))
+      .filteredOn(s -> s.endsWith("S"));
+    assertThat(evaluations).hasValue(0);
+
+    filtered.containsOnly("TOS");
+    assertThat(evaluations.get()).isPositive();
+  }
+
+  @Test
+  void filteredOn_evaluatesPredicateOncePerElementAcrossChainedAssertions() {
+    AtomicInteger evaluations = new AtomicInteger();
+    new RichIterableAssert<>(Lists.immutable.of("TOS", "TNG", "DS9", "VOY", "ENT"))
+      .filteredOn(s -> evaluations.incrementAndGet() > 0 && s.startsWith("T"))
+      .hasSize(2)
+      .containsOnly("TOS", "TNG")
+      .contains("TNG")
+      .allMatch(s -> s.length() == 3);
+
+    assertThat(evaluations).hasValue(5);
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.List;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.factory.Sets;
+
+class AbstractRichIterableAssert_HasSameElementsAs_Test {
+  @RichIterableParameterizedTest
+  void passes(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").hasSameElementsAs(Sets.immutable.of("ENT", "VOY", "DS9", "TNG", "TOS")));
+  }
+
+  @RichIterableParameterizedTest
+  void passesWithJdkIterable(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").hasSameElementsAs(List.of("ENT", "VOY", "DS9", "TNG", "TOS", "TOS")));
+  }
+
+  @RichIterableParameterizedTest
+  void passesBothEmpty(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() -> assertFactory.fromEmpty().hasSameElementsAs(List.of()));
+  }
+
+  @RichIterableParameterizedTest
+  void fails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").hasSameElementsAs(List.of("TOS", "TNG", "DS9", "VOY", "DIS")))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("DIS")
+      .withMessageContaining("ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void failsReportingIterableAsGiven(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").hasSameElementsAs(List.of("VOY", "TOS", "DIS", "TNG", "DS9", "TOS")))
+      .withMessageContaining("to contain only:%n  [\"VOY\", \"TOS\", \"DIS\", \"TNG\", \"DS9\", \"TOS\"]%n".formatted());
+  }
+
+  @RichIterableParameterizedTest
+  void passesWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .hasSameElementsAs(List.of("voy", "tos", "ent", "ds9", "tng")));
+  }
+
+  @RichIterableParameterizedTest
+  void failsWithElementComparator(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT")
+        .usingElementComparator(String.CASE_INSENSITIVE_ORDER)
+        .hasSameElementsAs(List.of("voy", "tos", "ent", "ds9", "dis")))
+      .withMessageContaining("to contain only")
+      .withMessageContaining("dis")
+      .withMessageContaining("ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNull(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromNull().hasSameElementsAs(List.of("DS9")))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @RichIterableParameterizedTest
+  void failsNullInput(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").hasSameElementsAs(null))
+      .withMessageContaining("The iterable to look for should not be null");
+  }
+
+  @RichIterableParameterizedTest
+  void softAssertionPasses(RichIterableAssertFactory<String> assertFactory) {
+    SoftAssertions.assertSoftly(softly -> assertFactory.softlyFromElements(softly, "TOS", "TNG", "DS9", "VOY", "ENT")
+      .hasSameElementsAs(List.of("VOY", "TOS", "ENT", "DS9", "TNG")));
+  }
+}
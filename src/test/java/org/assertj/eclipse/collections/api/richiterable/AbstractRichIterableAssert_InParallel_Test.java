@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.richiterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.eclipse.collections.api.ListIterableAssert;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AbstractRichIterableAssert_InParallel_Test {
+  private static final ImmutableList<String> SERIES = Lists.immutable.of("TOS", "TAS", "TNG", "DS9", "VOY", "ENT", "DIS", "PIC", "LD", "PRO", "SNW");
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @RichIterableParameterizedTest
+  void allMatchPasses(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel().allMatch(s -> s.length() == 3));
+  }
+
+  @RichIterableParameterizedTest
+  void allMatchFails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).allMatch(s -> s.startsWith("T")))
+      .withMessageContaining("DS9")
+      .withMessageContaining("VOY")
+      .withMessageContaining("ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void allSatisfyPasses(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 2).allSatisfy(s -> {
+        if (s.length() != 3) {
+          throw new AssertionError("Not 3 characters long: " + s);
+        }
+      }));
+  }
+
+  @RichIterableParameterizedTest
+  void anyMatchPasses(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).anyMatch(s -> s.equals("ENT")));
+  }
+
+  @RichIterableParameterizedTest
+  void anyMatchFails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).anyMatch(s -> s.equals("DIS")))
+      .withMessageContaining("to match given predicate but none did.");
+  }
+
+  @RichIterableParameterizedTest
+  void noneMatchFails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).noneMatch(s -> s.equals("VOY")))
+      .withMessageContaining("VOY");
+  }
+
+  @RichIterableParameterizedTest
+  void anySatisfyPasses(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).anySatisfy(s -> {
+        if (!s.equals("ENT")) {
+          throw new AssertionError("Not ENT: " + s);
+        }
+      }));
+  }
+
+  @RichIterableParameterizedTest
+  void anySatisfyFails(RichIterableAssertFactory<String> assertFactory) {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1).anySatisfy(s -> {
+        if (!s.equals("DIS")) {
+          throw new AssertionError("Not DIS: " + s);
+        }
+      }))
+      .withMessageContaining("Not DIS: TOS")
+      .withMessageContaining("Not DIS: ENT");
+  }
+
+  @RichIterableParameterizedTest
+  void filteredOnPasses(RichIterableAssertFactory<String> assertFactory) {
+    assertThatNoException().isThrownBy(() ->
+      assertFactory.fromElements("TOS", "TNG", "DS9", "VOY", "ENT").inParallel(executorService, 1)
+        .filteredOn(s -> s.startsWith("T"))
+        .allMatch(s -> s.length() == 3)
+        .containsOnly("TOS", "TNG"));
+  }
+
+  @Test
+  void reportsOffendersInEncounterOrder() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 1).allMatch(s -> s.length() == 3 && !s.contains("S")))
+      .withMessageContaining("[\"TOS\", \"TAS\", \"DS9\", \"DIS\", \"LD\", \"SNW\"]");
+  }
+
+  @Test
+  void reportsFirstOffendersWhenFailingFast() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 2).withFailureCap(2).allMatch(s -> !s.contains("S")))
+      .withMessageContaining("[\"TOS\", \"TAS\"]")
+      .withMessageContaining("The scan was truncated after finding 2 offending element(s)");
+  }
+
+  @Test
+  void doesNotReportTruncationWhenFailureCapIsReachedOnLastElement() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 2).withFailureCap(5).allMatch(s -> !s.contains("S")))
+      .withMessageContaining("[\"TOS\", \"TAS\", \"DS9\", \"DIS\", \"SNW\"]")
+      .withMessageNotContaining("truncated");
+  }
+
+  @Test
+  void anyMatchPassesOnLastElement() {
+    assertThatNoException().isThrownBy(() ->
+      new ListIterableAssert<>(SERIES).inParallel(executorService, 2).anyMatch(s -> s.equals("SNW")));
+  }
+
+  @Test
+  void reportsFirstMatchForNoneMatch() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 1).noneMatch(s -> s.startsWith("D")))
+      .withMessageContaining("DS9")
+      .withMessageNotContaining("DIS");
+  }
+
+  @Test
+  void filteredOnKeepsEncounterOrder() {
+    assertThatNoException().isThrownBy(() ->
+      new ListIterableAssert<>(SERIES).inParallel(executorService, 3)
+        .filteredOn(s -> s.contains("S"))
+        .containsExactly("TOS", "TAS", "DS9", "DIS", "SNW"));
+  }
+
+  @Test
+  void anySatisfyEvaluatesEachElementOnceWhenNoneSatisfies() {
+    AtomicInteger evaluations = new AtomicInteger();
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 2).anySatisfy(s -> {
+        evaluations.incrementAndGet();
+        throw new AssertionError("Not SFA: " + s);
+      }))
+      .withMessageContaining("Not SFA: TOS")
+      .withMessageContaining("Not SFA: SNW");
+    assertThat(evaluations).hasValue(SERIES.size());
+  }
+
+  @Test
+  void reportsOffendersInEncounterOrderForLinkedList() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new ListIterableAssert<>(Lists.adapt(new LinkedList<>(SERIES.castToList()))).inParallel(executorService, 2)
+        .allMatch(s -> !s.contains("S")))
+      .withMessageContaining("[\"TOS\", \"TAS\", \"DS9\", \"DIS\", \"SNW\"]");
+  }
+
+  @Test
+  void rethrowsPredicateException() {
+    assertThatExceptionOfType(IllegalStateException.class)
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 1).allMatch(s -> {
+        throw new IllegalStateException("Invalid " + s);
+      }))
+      .withMessageStartingWith("Invalid ");
+  }
+
+  @Test
+  void rejectsNullExecutorService() {
+    assertThatNullPointerException()
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(null, 1))
+      .withMessage("The executor service should not be null");
+  }
+
+  @Test
+  void rejectsNonPositiveBatchSize() {
+    assertThatIllegalArgumentException()
+      .isThrownBy(() -> new ListIterableAssert<>(SERIES).inParallel(executorService, 0))
+      .withMessage("The batch size must be greater than 0 but was <0>");
+  }
+}
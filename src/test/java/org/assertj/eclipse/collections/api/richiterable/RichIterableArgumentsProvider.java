@@ -20,6 +20,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import java.util.stream.Stream;
 
 import org.assertj.eclipse.collections.api.BagAssert;
+import org.assertj.eclipse.collections.api.LazyIterableAssert;
 import org.assertj.eclipse.collections.api.ListIterableAssert;
 import org.assertj.eclipse.collections.api.RichIterableAssert;
 import org.assertj.eclipse.collections.api.SetIterableAssert;
@@ -40,6 +41,7 @@ class RichIterableArgumentsProvider implements ArgumentsProvider {
     return Stream.of(
       arguments(createRichIterableAssert()),
       arguments(createBagAssert()),
+      arguments(createLazyIterableAssert()),
       arguments(createListIterableAssert()),
       arguments(createSetIterableAssert()),
       arguments(createStackIterableAssert())
@@ -66,6 +68,16 @@ class RichIterableArgumentsProvider implements ArgumentsProvider {
     );
   }
 
+  private static RichIterableAssertFactory<Object> createLazyIterableAssert() {
+    return new RichIterableAssertFactory<>(
+      "LazyIterable",
+      elements -> new LazyIterableAssert<>(Lists.immutable.of(elements).asLazy()),
+      () -> new LazyIterableAssert<>(Lists.immutable.empty().asLazy()),
+      () -> new LazyIterableAssert<>(null),
+      (softAssertions, elements) -> softAssertions.assertThat(Lists.immutable.of(elements).asLazy())
+    );
+  }
+
   private static RichIterableAssertFactory<Object> createListIterableAssert() {
     return new RichIterableAssertFactory<>(
       "List",
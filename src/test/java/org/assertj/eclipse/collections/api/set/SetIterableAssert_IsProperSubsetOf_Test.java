@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.set;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SetIterableAssert;
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.junit.jupiter.api.Test;
+
+class SetIterableAssert_IsProperSubsetOf_Test {
+  private static final ImmutableSet<String> SERIES = Sets.immutable.of("TOS", "TNG", "DS9");
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SetIterableAssert<>(SERIES).isProperSubsetOf(Sets.immutable.of("TOS", "TNG", "DS9", "VOY")));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SetIterableAssert<>(SERIES).isProperSubsetOf(Sets.immutable.of("TOS", "TNG", "VOY")))
+      .withMessageContaining("but found these extra elements")
+      .withMessageContaining("DS9");
+  }
+
+  @Test
+  void failsWithSameElements() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SetIterableAssert<>(SERIES).isProperSubsetOf(Sets.immutable.of("DS9", "TNG", "TOS")))
+      .withMessageContaining("to be a proper subset of")
+      .withMessageContaining("but both sets contain the same elements");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SetIterableAssert<String>(null).isProperSubsetOf(Sets.immutable.of("TOS", "TNG", "DS9", "VOY")))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullInput() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new SetIterableAssert<>(SERIES).isProperSubsetOf(null))
+      .withMessageContaining("The set to compare to should not be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SERIES).isProperSubsetOf(Sets.immutable.of("TOS", "TNG", "DS9", "VOY")));
+  }
+}
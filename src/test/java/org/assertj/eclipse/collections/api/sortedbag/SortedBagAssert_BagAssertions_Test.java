@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedbag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.eclipse.collections.api.Assertions.assertThat;
+import static org.assertj.eclipse.collections.api.BDDAssertions.then;
+import static org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples.pair;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.bag.sorted.ImmutableSortedBag;
+import org.eclipse.collections.api.factory.SortedBags;
+import org.junit.jupiter.api.Test;
+
+class SortedBagAssert_BagAssertions_Test {
+  private static final ImmutableSortedBag<String> SERIES = SortedBags.immutable.of("TOS", "TOS", "TNG", "DS9", "DS9", "DS9");
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> assertThat(SERIES)
+      .hasDistinctSize(3)
+      .hasOccurrencesOf("DS9", 3)
+      .hasMaxOccurrencesAtMost(3)
+      .hasBottomOccurrences(1, "TNG")
+      .hasFirst("DS9")
+      .hasLast("TOS"));
+  }
+
+  @Test
+  void passesTopOccurrences() {
+    assertThatNoException().isThrownBy(() -> then(SERIES).topOccurrences(2).containsExactly(pair("DS9", 3), pair("TOS", 2)));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThat(SERIES).hasOccurrencesOf("TNG", 2))
+      .withMessageContaining("to contain \"TNG\" exactly 2 time(s) but found it 1 time(s)");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SERIES)
+      .hasDistinctSize(3)
+      .hasOccurrenceSkewAtMost(3.0)
+      .containsRange("DS9", "TNG"));
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedbag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedBagAssert;
+import org.eclipse.collections.api.bag.sorted.ImmutableSortedBag;
+import org.eclipse.collections.api.factory.SortedBags;
+import org.junit.jupiter.api.Test;
+
+class SortedBagAssert_HasElementsBetween_Test {
+  private static final ImmutableSortedBag<Integer> EPISODES = SortedBags.immutable.of(1, 3, 3, 5, 7, 7, 7);
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedBagAssert<>(EPISODES).hasElementsBetween(3, 5, 3));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedBagAssert<>(EPISODES).hasElementsBetween(6, 8, 1))
+      .withMessageContaining("to have 1 element(s) between 6 and 8 (inclusive) but had 3");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedBagAssert<Integer>(null).hasElementsBetween(3, 5, 3))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(EPISODES).hasElementsBetween(3, 5, 3));
+  }
+}
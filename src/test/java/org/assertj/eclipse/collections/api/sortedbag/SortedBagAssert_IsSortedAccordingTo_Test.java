@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedbag;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedBagAssert;
+import org.eclipse.collections.api.bag.sorted.ImmutableSortedBag;
+import org.eclipse.collections.api.factory.SortedBags;
+import org.junit.jupiter.api.Test;
+
+class SortedBagAssert_IsSortedAccordingTo_Test {
+  private static final ImmutableSortedBag<String> SERIES = SortedBags.immutable.of("TOS", "DS9", "TNG", "DS9", "VOY");
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedBagAssert<>(SERIES).isSortedAccordingTo(Comparator.naturalOrder()));
+  }
+
+  @Test
+  void passesWithCompatibleComparator() {
+    Comparator<String> byFirstLetter = Comparator.comparing(value -> value.charAt(0));
+    assertThatNoException().isThrownBy(() -> new SortedBagAssert<>(SERIES).isSortedAccordingTo(byFirstLetter));
+  }
+
+  @Test
+  void passesWithOwnComparator() {
+    ImmutableSortedBag<String> reversed = SortedBags.immutable.of(Comparator.reverseOrder(), "TOS", "DS9", "TNG", "DS9");
+    assertThatNoException().isThrownBy(() -> new SortedBagAssert<>(reversed).isSortedAccordingTo(Comparator.reverseOrder()));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedBagAssert<>(SERIES).isSortedAccordingTo(Comparator.reverseOrder()))
+      .withMessageContaining("element at index 1 is not less or equal than element at index 2");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedBagAssert<String>(null).isSortedAccordingTo(Comparator.naturalOrder()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullComparator() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new SortedBagAssert<>(SERIES).isSortedAccordingTo(null))
+      .withMessageContaining("The comparator should not be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SERIES).isSortedAccordingTo(Comparator.naturalOrder()));
+  }
+}
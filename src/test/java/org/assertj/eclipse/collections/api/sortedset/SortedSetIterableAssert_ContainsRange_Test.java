@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetIterableAssert;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+class SortedSetIterableAssert_ContainsRange_Test {
+  private static final ImmutableSortedSet<Integer> SEASONS = SortedSets.immutable.of(1, 3, 5, 7);
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).containsRange(2, 4));
+  }
+
+  @Test
+  void passesOnInclusiveUpperBound() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).containsRange(6, 7));
+  }
+
+  @Test
+  void passesMutable() {
+    MutableSortedSet<Integer> seasons = SortedSets.mutable.of(1, 3, 5, 7);
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(seasons).containsRange(5, 5));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).containsRange(8, 10))
+      .withMessageContaining("to contain at least one element between 8 and 10 (inclusive) but none was found");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<Integer>(null).containsRange(2, 4))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsReversedBounds() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).containsRange(4, 2))
+      .withMessageContaining("The lower bound <4> must not be greater than the upper bound <2>");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SEASONS).containsRange(2, 4));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetIterableAssert;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+class SortedSetIterableAssert_HasElementsBetween_Test {
+  private static final ImmutableSortedSet<Integer> SEASONS = SortedSets.immutable.of(1, 3, 5, 7);
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasElementsBetween(3, 7, 3));
+  }
+
+  @Test
+  void passesEmptyRange() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasElementsBetween(8, 10, 0));
+  }
+
+  @Test
+  void passesWithComparator() {
+    ImmutableSortedSet<Integer> reversed = SortedSets.immutable.of(Comparator.reverseOrder(), 1, 3, 5, 7);
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(reversed).hasElementsBetween(6, 2, 2));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasElementsBetween(2, 6, 3))
+      .withMessageContaining("to have 3 element(s) between 2 and 6 (inclusive) but had 2");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<Integer>(null).hasElementsBetween(2, 6, 2))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNegativeCount() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasElementsBetween(2, 6, -1))
+      .withMessageContaining("The expected count must not be negative but was <-1>");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SEASONS).hasElementsBetween(2, 6, 2));
+  }
+}
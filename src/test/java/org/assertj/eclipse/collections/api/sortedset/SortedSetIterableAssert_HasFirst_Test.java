@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetIterableAssert;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+class SortedSetIterableAssert_HasFirst_Test {
+  private static final ImmutableSortedSet<Integer> SEASONS = SortedSets.immutable.of(3, 1, 7, 5);
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasFirst(1));
+  }
+
+  @Test
+  void passesWithComparator() {
+    ImmutableSortedSet<Integer> reversed = SortedSets.immutable.of(Comparator.reverseOrder(), 3, 1, 7, 5);
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(reversed).hasFirst(7));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SEASONS).hasFirst(3))
+      .withMessageContaining("Expecting first element of");
+  }
+
+  @Test
+  void failsEmpty() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SortedSets.immutable.<Integer>empty()).hasFirst(1))
+      .withMessageContaining("Expecting actual not to be empty");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<Integer>(null).hasFirst(1))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SEASONS).hasFirst(1));
+  }
+}
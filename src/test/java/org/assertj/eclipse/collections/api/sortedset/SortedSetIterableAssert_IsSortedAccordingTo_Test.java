@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import java.util.Comparator;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.assertj.eclipse.collections.api.SortedSetIterableAssert;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+class SortedSetIterableAssert_IsSortedAccordingTo_Test {
+  private static final ImmutableSortedSet<String> SERIES = SortedSets.immutable.of("DS9", "TNG", "TOS", "VOY");
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SERIES).isSortedAccordingTo(Comparator.naturalOrder()));
+  }
+
+  @Test
+  void passesWithCompatibleComparator() {
+    Comparator<String> byFirstLetter = Comparator.comparing(value -> value.charAt(0));
+    assertThatNoException().isThrownBy(() -> new SortedSetIterableAssert<>(SERIES).isSortedAccordingTo(byFirstLetter));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SERIES).isSortedAccordingTo(Comparator.reverseOrder()))
+      .withMessageContaining("element at index 0 is not less or equal than element at index 1");
+  }
+
+  @Test
+  void failsNull() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<String>(null).isSortedAccordingTo(Comparator.naturalOrder()))
+      .withMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void failsNullComparator() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> new SortedSetIterableAssert<>(SERIES).isSortedAccordingTo(null))
+      .withMessageContaining("The comparator should not be null");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SERIES).isSortedAccordingTo(Comparator.naturalOrder()));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.eclipse.collections.api.sortedset;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.eclipse.collections.api.Assertions.assertThat;
+import static org.assertj.eclipse.collections.api.BDDAssertions.then;
+
+import org.assertj.eclipse.collections.api.SoftAssertions;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+class SortedSetIterableAssert_SetAssertions_Test {
+  private static final ImmutableSortedSet<String> SERIES = SortedSets.immutable.of("TOS", "TNG", "DS9");
+
+  @Test
+  void passes() {
+    assertThatNoException().isThrownBy(() -> assertThat(SERIES)
+      .isSubsetOf(Sets.immutable.of("TOS", "TNG", "DS9", "VOY"))
+      .isProperSubsetOf(Sets.immutable.of("TOS", "TNG", "DS9", "VOY"))
+      .isSupersetOf(Sets.immutable.of("TOS", "DS9"))
+      .isDisjointFrom(Sets.immutable.of("VOY", "ENT"))
+      .intersects(Sets.immutable.of("VOY", "DS9"))
+      .hasFirst("DS9")
+      .hasLast("TOS"));
+  }
+
+  @Test
+  void passesThen() {
+    assertThatNoException().isThrownBy(() -> then(SERIES).isSupersetOf(Sets.immutable.of("TNG")).containsRange("TA", "TZ"));
+  }
+
+  @Test
+  void fails() {
+    assertThatExceptionOfType(AssertionError.class)
+      .isThrownBy(() -> assertThat(SERIES).isSubsetOf(Sets.immutable.of("TOS", "TNG", "VOY")))
+      .withMessageContaining("but found these extra elements")
+      .withMessageContaining("DS9");
+  }
+
+  @Test
+  void softAssertionPasses() {
+    SoftAssertions.assertSoftly(softly -> softly.assertThat(SERIES)
+      .intersects(Sets.immutable.of("VOY", "DS9"))
+      .hasElementsBetween("TA", "TZ", 2));
+  }
+}